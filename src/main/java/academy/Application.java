@@ -1,5 +1,8 @@
 package academy;
 
+import academy.cli.AnalyzeCommand;
+import academy.cli.BatchCommand;
+import academy.cli.FloodCommand;
 import academy.cli.GenerateCommand;
 import academy.cli.SolveCommand;
 import picocli.CommandLine;
@@ -10,7 +13,13 @@ import picocli.CommandLine.Command;
         version = "Maze 1.0",
         mixinStandardHelpOptions = true,
         description = "Maze generator and solver CLI application.",
-        subcommands = {GenerateCommand.class, SolveCommand.class})
+        subcommands = {
+            GenerateCommand.class,
+            SolveCommand.class,
+            AnalyzeCommand.class,
+            BatchCommand.class,
+            FloodCommand.class
+        })
 public class Application implements Runnable {
     public static void main(String[] args) {
         int exitCode = new CommandLine(new Application()).execute(args);
@@ -19,6 +28,7 @@ public class Application implements Runnable {
 
     @Override
     public void run() {
-        System.out.println("Use 'generate' or 'solve' subcommand. See --help for more information.");
+        System.out.println(
+                "Use 'generate', 'solve', 'analyze', 'batch' or 'flood' subcommand. See --help for more information.");
     }
 }
@@ -0,0 +1,57 @@
+package academy.cli;
+
+import academy.maze.MazeParser;
+import academy.maze.analysis.MazeAnalysis;
+import academy.maze.analysis.MazeAnalyzer;
+import academy.maze.dto.Maze;
+import java.util.List;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+@Command(
+        name = "analyze",
+        aliases = {"validate"},
+        description = "Check maze connectivity and whether it is a perfect maze.")
+public class AnalyzeCommand extends BaseCommand {
+    @Option(
+            names = {"--file", "-f"},
+            description = "Maze file",
+            required = true)
+    private String mazeFile;
+
+    @Override
+    public void run() {
+        try {
+            var parser = new MazeParser();
+
+            List<String> mazeRows = fileService.loadMazeFromFile(mazeFile);
+            Maze maze = parser.parse(mazeRows, storage);
+            MazeAnalysis analysis = new MazeAnalyzer().analyze(maze);
+
+            outputResult(report(maze, analysis));
+        } catch (Exception e) {
+            System.err.println(e.getMessage());
+            CommandLine.usage(this, System.err);
+        }
+    }
+
+    private static String report(Maze maze, MazeAnalysis analysis) {
+        return """
+                Size: %dx%d
+                Passable cells: %d
+                Components: %d
+                Isolated cells: %d
+                Cycles: %d
+                Perfect: %s
+                """
+                .formatted(
+                        maze.width(),
+                        maze.height(),
+                        analysis.passableCells(),
+                        analysis.components(),
+                        analysis.isolatedCells(),
+                        analysis.cycles(),
+                        analysis.isPerfect() ? "yes" : "no");
+    }
+}
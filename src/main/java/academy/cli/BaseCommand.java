@@ -1,9 +1,16 @@
 package academy.cli;
 
+import academy.converters.StorageConverter;
 import academy.maze.MazeFileService;
+import academy.maze.grid.GridStorage;
 import academy.maze.renderer.DefaultMazeRenderer;
 import academy.maze.renderer.MazeRenderer;
 import academy.maze.renderer.UnicodeMazeRenderer;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
 import picocli.CommandLine.Option;
 
 public abstract class BaseCommand implements Runnable {
@@ -17,6 +24,13 @@ public abstract class BaseCommand implements Runnable {
             description = "Use Unicode characters for the maze display")
     protected boolean unicode;
 
+    @Option(
+            names = {"--storage"},
+            description = "Maze storage: heap, offheap, tiled (default: heap)",
+            defaultValue = "heap",
+            converter = StorageConverter.class)
+    protected GridStorage storage;
+
     protected MazeFileService fileService = new MazeFileService();
 
     /** Выбирает рендерер на основе флага unicode */
@@ -32,4 +46,19 @@ public abstract class BaseCommand implements Runnable {
             System.out.print(text);
         }
     }
+
+    /** Выводит результат в файл или на консоль по мере его формирования */
+    protected void outputResult(Consumer<Appendable> writer) {
+        if (outputFile != null) {
+            fileService.writeMazeToFile(outputFile, writer);
+        } else {
+            var out = new BufferedWriter(new OutputStreamWriter(System.out, System.out.charset()));
+            writer.accept(out);
+            try {
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write maze to console", e);
+            }
+        }
+    }
 }
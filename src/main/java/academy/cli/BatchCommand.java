@@ -0,0 +1,83 @@
+package academy.cli;
+
+import academy.converters.SolverConverter;
+import academy.maze.MazeParser;
+import academy.maze.QueryParser;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Query;
+import academy.maze.solver.BatchSolver;
+import academy.maze.solver.BatchSolver.Result;
+import academy.maze.solver.Solver;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+@Command(name = "batch", description = "Solve many start/end pairs from a file against one maze.")
+public class BatchCommand extends BaseCommand {
+    @Option(
+            names = {"--algorithm", "-a"},
+            description = "Algorithm: astar, dijkstra, bfs, bibfs, biastar, jps, junction, tree, pbfs, idastar",
+            required = true,
+            converter = SolverConverter.class)
+    private Solver solver;
+
+    @Option(
+            names = {"--file", "-f"},
+            description = "Maze file",
+            required = true)
+    private String mazeFile;
+
+    @Option(
+            names = {"--queries", "-q"},
+            description = "Queries file: x1,y1,x2,y2 or JSON lines with start and end",
+            required = true)
+    private String queriesFile;
+
+    @Override
+    public void run() {
+        try {
+            List<String> mazeRows = fileService.loadMazeFromFile(mazeFile);
+            Maze maze = new MazeParser().parse(mazeRows, storage);
+            List<Query> queries = new QueryParser().parse(fileService.loadQueriesFromFile(queriesFile));
+
+            outputResult(out -> new BatchSolver(solver).solve(maze, queries, result -> write(out, result)));
+        } catch (Exception e) {
+            System.err.println(e.getMessage());
+            CommandLine.usage(this, System.err);
+        }
+    }
+
+    /**
+     * Выводит результат запроса одной JSON-строкой: номер, количество точек пути, начальную точку и шаги пути буквами
+     * {@code U}, {@code D}, {@code R}, {@code L}.
+     */
+    private static void write(Appendable out, Result result) {
+        Path path = result.path();
+        var line = new StringBuilder(64 + path.length());
+        line.append("{\"id\":").append(result.query().id()).append(",\"length\":").append(path.length());
+        if (!path.isEmpty()) {
+            line.append(",\"start\":{\"x\":")
+                    .append(path.start().x())
+                    .append(",\"y\":")
+                    .append(path.start().y())
+                    .append("}");
+        }
+        line.append(",\"moves\":\"");
+        for (int step = 0; step < path.length() - 1; step++) {
+            line.append(path.direction(step).name().charAt(0));
+        }
+        line.append("\"}\n");
+
+        synchronized (out) {
+            try {
+                out.append(line);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write batch result", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package academy.cli;
+
+import academy.converters.PointConverter;
+import academy.maze.MazeParser;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.solver.BFSSolver;
+import academy.maze.solver.DistanceField;
+import java.util.List;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+@Command(
+        name = "flood",
+        description = "Build a distance field from one source point and rebuild paths from it without searching.")
+public class FloodCommand extends BaseCommand {
+    @Option(
+            names = {"--file", "-f"},
+            description = "Maze file")
+    private String mazeFile;
+
+    @Option(
+            names = {"--source", "-s"},
+            description = "Source point (format: x,y)",
+            converter = PointConverter.class)
+    private Point sourcePoint;
+
+    @Option(
+            names = {"--load"},
+            description = "Distance field file to rebuild paths from instead of the maze")
+    private String loadFile;
+
+    @Option(
+            names = {"--field"},
+            description = "Binary file to save the distance field to")
+    private String fieldFile;
+
+    @Option(
+            names = {"--end", "-e"},
+            description = "End point to rebuild the path to (format: x,y), may be repeated",
+            converter = PointConverter.class)
+    private List<Point> endPoints = List.of();
+
+    @Override
+    public void run() {
+        try {
+            DistanceField field = loadFile != null ? fileService.loadDistanceField(loadFile) : flood();
+            if (fieldFile != null) {
+                fileService.saveDistanceField(field, fieldFile);
+            }
+
+            outputResult(report(field));
+        } catch (Exception e) {
+            System.err.println(e.getMessage());
+            CommandLine.usage(this, System.err);
+        }
+    }
+
+    private DistanceField flood() {
+        if (mazeFile == null || sourcePoint == null) {
+            throw new IllegalArgumentException("Maze file and source point are required unless --load is given");
+        }
+
+        List<String> mazeRows = fileService.loadMazeFromFile(mazeFile);
+        Maze maze = new MazeParser().parse(mazeRows, storage);
+        return new BFSSolver().flood(maze, sourcePoint);
+    }
+
+    /**
+     * Формирует отчет: начальную точку, количество достижимых ячеек, самую дальнюю из них и пути к конечным точкам
+     * шагами {@code U}, {@code D}, {@code R}, {@code L}.
+     */
+    private String report(DistanceField field) {
+        int[] distances = field.distances();
+        int reachable = 0;
+        int farthest = 0;
+        for (int cell = 0; cell < distances.length; cell++) {
+            if (distances[cell] != DistanceField.UNREACHABLE) {
+                reachable++;
+                if (distances[cell] > distances[farthest]) {
+                    farthest = cell;
+                }
+            }
+        }
+
+        var report = new StringBuilder()
+                .append("Source: ")
+                .append(format(field.source()))
+                .append("\nReachable cells: ")
+                .append(reachable)
+                .append("\nFarthest: ")
+                .append(format(new Point(farthest % field.width(), farthest / field.width())))
+                .append(" (distance ")
+                .append(distances[farthest])
+                .append(")\n");
+        for (Point end : endPoints) {
+            Path path = field.pathTo(end);
+            report.append("Path to ").append(format(end)).append(": ");
+            if (path.isEmpty()) {
+                report.append("unreachable\n");
+                continue;
+            }
+            report.append(path.length() - 1).append(" steps, ");
+            for (int step = 0; step < path.length() - 1; step++) {
+                report.append(path.direction(step).name().charAt(0));
+            }
+            report.append('\n');
+        }
+
+        return report.toString();
+    }
+
+    private static String format(Point point) {
+        return point.x() + "," + point.y();
+    }
+}
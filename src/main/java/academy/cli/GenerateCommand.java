@@ -3,7 +3,20 @@ package academy.cli;
 import academy.converters.GeneratorConverter;
 import academy.maze.dto.Maze;
 import academy.maze.generator.Generator;
+import academy.maze.generator.StreamingGenerator;
+import academy.maze.generator.TiledParallelGenerator;
 import academy.maze.renderer.MazeRenderer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator.SplittableGenerator;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
@@ -12,7 +25,7 @@ import picocli.CommandLine.Option;
 public class GenerateCommand extends BaseCommand {
     @Option(
             names = {"--algorithm", "-a"},
-            description = "Algorithm: dfs, prim, kruskal",
+            description = "Algorithm: dfs, prim, kruskal, eller, division, binary, sidewinder",
             required = true,
             converter = GeneratorConverter.class)
     private Generator algorithm;
@@ -29,16 +42,101 @@ public class GenerateCommand extends BaseCommand {
             required = true)
     private int height;
 
+    @Option(
+            names = {"--seed"},
+            description = "Random seed: the same seed gives the same maze")
+    private Long seed;
+
+    @Option(
+            names = {"--parallel"},
+            description = "Generate maze tiles in parallel and stitch them together")
+    private boolean parallel;
+
+    @Option(
+            names = {"--count"},
+            description = "Number of mazes to generate into the --output directory (default: 1)",
+            defaultValue = "1")
+    private int count;
+
     @Override
     public void run() {
         try {
+            if (count <= 0) {
+                throw new IllegalArgumentException("Maze count must be bigger than zero");
+            }
+
             MazeRenderer renderer = useRenderer();
-            Maze maze = algorithm.generate(width, height);
-            String textMaze = renderer.renderGeneratedMaze(maze);
-            outputResult(textMaze);
+            var random = seed == null ? new SplittableRandom() : new SplittableRandom(seed);
+            if (count > 1) {
+                generateBatch(renderer, random);
+            } else if (isStreaming()) {
+                outputResult(out -> generateRows(renderer, random, out));
+            } else {
+                outputResult(renderer.renderGeneratedMaze(generate(random)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Maze generation was interrupted");
         } catch (Exception e) {
             System.err.println(e.getMessage());
             CommandLine.usage(this, System.err);
         }
     }
+
+    /**
+     * Генерирует {@link #count} лабиринтов в пронумерованные файлы каталога {@link #outputFile}. Каждый лабиринт
+     * генерируется, отрисовывается и записывается отдельной задачей в пуле по числу ядер; задачи получают собственные
+     * потоки случайных чисел в порядке номеров, поэтому набор файлов при заданном зерне воспроизводим. При первой
+     * ошибке или прерывании оставшиеся задачи отменяются, а ошибка сообщается сразу, не дожидаясь всего набора.
+     */
+    private void generateBatch(MazeRenderer renderer, SplittableGenerator random)
+            throws IOException, InterruptedException {
+        if (outputFile == null) {
+            throw new IllegalArgumentException("Batch generation requires an --output directory");
+        }
+
+        Path directory = Files.createDirectories(Path.of(outputFile));
+        String fileName = "maze-%0" + String.valueOf(count - 1).length() + "d.txt";
+
+        List<Future<?>> tasks = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            for (int i = 0; i < count; i++) {
+                String file = directory.resolve(fileName.formatted(i)).toString();
+                SplittableGenerator mazeRandom = random.split();
+                tasks.add(executor.submit(() -> {
+                    if (isStreaming()) {
+                        fileService.writeMazeToFile(file, out -> generateRows(renderer, mazeRandom, out));
+                    } else {
+                        fileService.saveMazeToFile(renderer.renderGeneratedMaze(generate(mazeRandom)), file);
+                    }
+                }));
+            }
+
+            for (Future<?> task : tasks) {
+                try {
+                    task.get();
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof RuntimeException cause ? cause : new RuntimeException(e.getCause());
+                }
+            }
+        } finally {
+            tasks.forEach(task -> task.cancel(true));
+            executor.shutdown();
+        }
+    }
+
+    /** Проверяет, выводится ли лабиринт построчно по мере генерации */
+    private boolean isStreaming() {
+        return !parallel && algorithm instanceof StreamingGenerator;
+    }
+
+    private Maze generate(SplittableGenerator random) {
+        Generator generator = parallel ? new TiledParallelGenerator(algorithm) : algorithm;
+        return generator.generate(width, height, storage, random);
+    }
+
+    private void generateRows(MazeRenderer renderer, SplittableGenerator random, Appendable out) {
+        ((StreamingGenerator) algorithm).generateRows(width, height, random, renderer.renderGeneratedRows(out));
+    }
 }
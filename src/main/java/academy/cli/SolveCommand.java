@@ -3,6 +3,8 @@ package academy.cli;
 import academy.converters.PointConverter;
 import academy.converters.SolverConverter;
 import academy.maze.MazeParser;
+import academy.maze.analysis.DeadEndFiller;
+import academy.maze.analysis.MazeAnalyzer;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Path;
 import academy.maze.dto.Point;
@@ -17,7 +19,7 @@ import picocli.CommandLine.Option;
 public class SolveCommand extends BaseCommand {
     @Option(
             names = {"--algorithm", "-a"},
-            description = "Algorithm: astar, dijkstra, bfs",
+            description = "Algorithm: astar, dijkstra, bfs, bibfs, biastar, jps, junction, tree, pbfs, idastar",
             required = true,
             converter = SolverConverter.class)
     private Solver solver;
@@ -42,6 +44,16 @@ public class SolveCommand extends BaseCommand {
             converter = PointConverter.class)
     private Point endPoint;
 
+    @Option(
+            names = {"--prune"},
+            description = "Fill dead ends before solving")
+    private boolean prune;
+
+    @Option(
+            names = {"--check-connectivity"},
+            description = "Label maze components first and skip the search for disconnected points")
+    private boolean checkConnectivity;
+
     @Override
     public void run() {
         try {
@@ -49,8 +61,8 @@ public class SolveCommand extends BaseCommand {
             var parser = new MazeParser();
 
             List<String> MazeRows = fileService.loadMazeFromFile(mazeFile);
-            Maze maze = parser.parse(MazeRows);
-            Path path = solver.solve(maze, startPoint, endPoint);
+            Maze maze = parser.parse(MazeRows, storage);
+            Path path = isReachable(maze) ? solver.solve(prune(maze), startPoint, endPoint) : Path.empty();
             String solvedTextMaze = renderer.renderSolvedMaze(maze, path);
 
             outputResult(solvedTextMaze);
@@ -59,4 +71,21 @@ public class SolveCommand extends BaseCommand {
             CommandLine.usage(this, System.err);
         }
     }
+
+    /**
+     * Проверяет связность точек до запуска решателя, если она включена {@code --check-connectivity}. Проверка -
+     * параллельный проход по всей сетке и 4 байта на ячейку, а поиск обходит лишь компоненту начальной точки, поэтому
+     * для одной пары проверка не дешевле поиска и по умолчанию выключена. Лабиринты больше
+     * {@link MazeAnalyzer#MAX_CELLS} ячеек анализатор не поддерживает, поэтому для них решатель запускается без
+     * проверки.
+     */
+    private boolean isReachable(Maze maze) {
+        return !checkConnectivity
+                || maze.cells().cellCount() > MazeAnalyzer.MAX_CELLS
+                || new MazeAnalyzer().analyze(maze).connected(startPoint, endPoint);
+    }
+
+    private Maze prune(Maze maze) {
+        return prune ? new DeadEndFiller().fill(maze, startPoint, endPoint) : maze;
+    }
 }
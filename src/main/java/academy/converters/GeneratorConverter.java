@@ -1,9 +1,13 @@
 package academy.converters;
 
+import academy.maze.generator.BinaryTreeGenerator;
 import academy.maze.generator.DFSGenerator;
+import academy.maze.generator.EllerGenerator;
 import academy.maze.generator.Generator;
 import academy.maze.generator.KruskalGenerator;
 import academy.maze.generator.PrimGenerator;
+import academy.maze.generator.RecursiveDivisionGenerator;
+import academy.maze.generator.SidewinderGenerator;
 import picocli.CommandLine.ITypeConverter;
 import picocli.CommandLine.TypeConversionException;
 
@@ -15,6 +19,10 @@ import picocli.CommandLine.TypeConversionException;
  * <li>{@code dfs} - генератор на основе поиска в глубину
  * <li>{@code prim} - генератор на основе алгоритма Прима
  * <li>{@code kruskal} - генератор на основе алгоритма Краскала
+ * <li>{@code eller} - построчный генератор на основе алгоритма Эллера
+ * <li>{@code division} - параллельный генератор на основе рекурсивного деления
+ * <li>{@code binary} - быстрый построчный генератор на основе алгоритма двоичного дерева
+ * <li>{@code sidewinder} - быстрый построчный генератор на основе алгоритма Sidewinder
  */
 public class GeneratorConverter implements ITypeConverter<Generator> {
     /**
@@ -31,6 +39,10 @@ public class GeneratorConverter implements ITypeConverter<Generator> {
             case "dfs" -> new DFSGenerator();
             case "prim" -> new PrimGenerator();
             case "kruskal" -> new KruskalGenerator();
+            case "eller" -> new EllerGenerator();
+            case "division" -> new RecursiveDivisionGenerator();
+            case "binary" -> new BinaryTreeGenerator();
+            case "sidewinder" -> new SidewinderGenerator();
             default -> throw new TypeConversionException("Unknown algorithm: " + value);
         };
     }
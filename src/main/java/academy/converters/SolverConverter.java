@@ -2,8 +2,15 @@ package academy.converters;
 
 import academy.maze.solver.AStarSolver;
 import academy.maze.solver.BFSSolver;
+import academy.maze.solver.BidirectionalAStarSolver;
+import academy.maze.solver.BidirectionalBFSSolver;
 import academy.maze.solver.DijkstraSolver;
+import academy.maze.solver.IDAStarSolver;
+import academy.maze.solver.JumpPointSolver;
+import academy.maze.solver.JunctionGraphSolver;
+import academy.maze.solver.ParallelBFSSolver;
 import academy.maze.solver.Solver;
+import academy.maze.solver.TreeSolver;
 import picocli.CommandLine.ITypeConverter;
 import picocli.CommandLine.TypeConversionException;
 
@@ -15,6 +22,13 @@ import picocli.CommandLine.TypeConversionException;
  * <li>{@code astar} - алгоритм A* (A-Star) с эвристическим поиском
  * <li>{@code dijkstra} - алгоритм Дейкстры для поиска кратчайшего пути
  * <li>{@code bfs} - поиск в ширину (Breadth-First Search)
+ * <li>{@code bibfs} - двунаправленный поиск в ширину
+ * <li>{@code biastar} - двунаправленный алгоритм A*
+ * <li>{@code jps} - поиск с прыжками по точкам (Jump Point Search)
+ * <li>{@code junction} - поиск по графу перекрестков со сжатыми коридорами
+ * <li>{@code tree} - путь по индексу общих предков для идеальных лабиринтов без поиска
+ * <li>{@code pbfs} - параллельный поиск в ширину по уровням для очень больших лабиринтов
+ * <li>{@code idastar} - A* с итеративным углублением, память растет с длиной пути, а не с площадью лабиринта
  */
 public class SolverConverter implements ITypeConverter<Solver> {
     /**
@@ -31,6 +45,13 @@ public class SolverConverter implements ITypeConverter<Solver> {
             case "astar" -> new AStarSolver();
             case "dijkstra" -> new DijkstraSolver();
             case "bfs" -> new BFSSolver();
+            case "bibfs" -> new BidirectionalBFSSolver();
+            case "biastar" -> new BidirectionalAStarSolver();
+            case "jps" -> new JumpPointSolver();
+            case "junction" -> new JunctionGraphSolver();
+            case "tree" -> new TreeSolver();
+            case "pbfs" -> new ParallelBFSSolver();
+            case "idastar" -> new IDAStarSolver();
             default -> throw new TypeConversionException("Unknown algorithm: " + value);
         };
     }
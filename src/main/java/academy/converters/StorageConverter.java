@@ -0,0 +1,34 @@
+package academy.converters;
+
+import academy.maze.grid.GridStorage;
+import picocli.CommandLine.ITypeConverter;
+import picocli.CommandLine.TypeConversionException;
+
+/**
+ * Конвертер для преобразования строковых идентификаторов хранилища в {@link GridStorage}. Используется в CLI для выбора
+ * размещения сетки лабиринта и рабочих массивов алгоритмов.
+ *
+ * <p>Поддерживаемые хранилища:
+ * <li>{@code heap} - массивы в куче JVM
+ * <li>{@code offheap} - память вне кучи с 64-битной адресацией
+ * <li>{@code tiled} - плитки, выделяемые по мере записи и вытесняемые во временный файл
+ */
+public class StorageConverter implements ITypeConverter<GridStorage> {
+    /**
+     * Преобразует строковый идентификатор хранилища в соответствующее значение {@link GridStorage}. Сравнение
+     * выполняется без учета регистра.
+     *
+     * @param value строковый идентификатор хранилища
+     * @return хранилище сетки лабиринта
+     * @throws TypeConversionException если передан неизвестный идентификатор хранилища
+     */
+    @Override
+    public GridStorage convert(String value) throws Exception {
+        return switch (value.toLowerCase()) {
+            case "heap" -> GridStorage.HEAP;
+            case "offheap" -> GridStorage.OFF_HEAP;
+            case "tiled" -> GridStorage.TILED;
+            default -> throw new TypeConversionException("Unknown storage: " + value);
+        };
+    }
+}
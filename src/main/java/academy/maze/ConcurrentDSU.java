@@ -0,0 +1,118 @@
+package academy.maze;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Потокобезопасная система непересекающихся множеств без блокировок - вариант {@link DSU} для параллельного
+ * объединения из многих потоков.
+ *
+ * <p>Родители хранятся в {@link AtomicIntegerArray} и меняются только через CAS:
+ *
+ * <ul>
+ *   <li>{@link #find} сокращает путь делением пополам: элемент перевешивается на деда, если родитель не изменился
+ *   <li>{@link #union} подвешивает корень с большим индексом к корню с меньшим; если корень успел измениться, поиск
+ *       корней повторяется
+ * </ul>
+ *
+ * <p>Объединение по индексу вместо ранга не требует второго атомарного массива и исключает циклы: родитель элемента
+ * всегда не больше самого элемента.
+ */
+public class ConcurrentDSU {
+    /** Массив родительских элементов для каждого узла. Для корня parent[i] == i */
+    private final AtomicIntegerArray parent;
+
+    /**
+     * Создает DSU для указанного количества элементов. Инициализирует каждый элемент как отдельное множество.
+     *
+     * @param size количество элементов в системе
+     */
+    public ConcurrentDSU(int size) {
+        parent = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            parent.setPlain(i, i);
+        }
+    }
+
+    /**
+     * Возвращает количество элементов.
+     *
+     * @return количество элементов в системе
+     */
+    public int size() {
+        return parent.length();
+    }
+
+    /**
+     * Находит корневой элемент множества, содержащего указанный элемент. Использует деление пути пополам для
+     * оптимизации последующих вызовов.
+     *
+     * @param value элемент, для которого ищется корень
+     * @return корневой элемент множества на момент вызова
+     */
+    public int find(int value) {
+        while (true) {
+            int next = parent.get(value);
+            if (next == value) {
+                return value;
+            }
+
+            int grandparent = parent.get(next);
+            if (grandparent != next) {
+                parent.compareAndSet(value, next, grandparent);
+            }
+            value = grandparent;
+        }
+    }
+
+    /**
+     * Объединяет множества, содержащие элементы x и y.
+     *
+     * @param x первый элемент
+     * @param y второй элемент
+     * @return {@code true}, если множества были объединены этим вызовом, {@code false}, если элементы уже находились в
+     *     одном множестве
+     */
+    public boolean union(int x, int y) {
+        while (true) {
+            int rootX = find(x);
+            int rootY = find(y);
+            if (rootX == rootY) {
+                return false;
+            }
+
+            int child = Math.max(rootX, rootY);
+            if (parent.compareAndSet(child, child, Math.min(rootX, rootY))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Проверяет, находятся ли два элемента в одном множестве.
+     *
+     * @param x первый элемент
+     * @param y второй элемент
+     * @return {@code true} если элементы связаны, {@code false} в противном случае
+     */
+    public boolean connected(int x, int y) {
+        while (true) {
+            int rootX = find(x);
+            int rootY = find(y);
+            if (rootX == rootY) {
+                return true;
+            }
+            if (parent.get(rootX) == rootX) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Подвешивает каждый элемент прямо к корню его множества, после чего {@link #find} выполняется за O(1). Вызывается,
+     * когда объединения завершены: параллельные {@link #union} могут снова удлинить пути.
+     */
+    public void flatten() {
+        IntStream.range(0, size()).parallel().forEach(i -> parent.set(i, find(i)));
+    }
+}
@@ -1,28 +1,47 @@
 package academy.maze;
 
+import academy.maze.grid.GridStorage;
+import academy.maze.grid.PackedArray;
+
 /**
  * Реализация системы непересекающихся множеств (DSU - Disjoint Set Union). Также известна как Union-Find. Используется
  * для эффективного управления и запроса связности элементов в динамически изменяющихся наборах.
+ *
+ * <p>Элементы адресуются 64-битными индексами, а массивы размещаются в выбранном {@link GridStorage}, что позволяет
+ * обрабатывать больше {@code 2^31} элементов вне кучи.
  */
 public class DSU {
     /**
      * Массив родительских элементов для каждого узла. parent[i] хранит родителя i-го элемента, для корня parent[i] == i
      */
-    private final int[] parent;
+    private final PackedArray parent;
 
-    /** Массив рангов (высот) деревьев для каждого узла. Используется для оптимизации объединения множеств */
-    private final int[] rank;
+    /**
+     * Массив рангов (высот) деревьев для каждого узла. Используется для оптимизации объединения множеств. Ранг не
+     * превышает {@code log2(size)}, поэтому хватает 8 бит
+     */
+    private final PackedArray rank;
 
     /**
-     * Создает DSU для указанного количества элементов. Инициализирует каждый элемент как отдельное множество.
+     * Создает DSU в куче для указанного количества элементов. Инициализирует каждый элемент как отдельное множество.
      *
      * @param size количество элементов в системе
      */
     public DSU(int size) {
-        parent = new int[size];
-        rank = new int[size];
-        for (int i = 0; i < size; i++) {
-            parent[i] = i;
+        this(size, GridStorage.HEAP);
+    }
+
+    /**
+     * Создает DSU в указанном хранилище. Инициализирует каждый элемент как отдельное множество.
+     *
+     * @param size количество элементов в системе
+     * @param storage хранилище массивов родителей и рангов
+     */
+    public DSU(long size, GridStorage storage) {
+        parent = storage.newArray(size, size <= 1L << Integer.SIZE ? Integer.SIZE : Long.SIZE);
+        rank = storage.newArray(size, Byte.SIZE);
+        for (long i = 0; i < size; i++) {
+            parent.set(i, i);
         }
     }
 
@@ -33,12 +52,14 @@ public class DSU {
      * @param value элемент, для которого ищется корень
      * @return корневой элемент множества
      */
-    public int find(int value) {
-        if (parent[value] != value) {
-            parent[value] = find(parent[value]);
+    public long find(long value) {
+        long root = parent.get(value);
+        if (root != value) {
+            root = find(root);
+            parent.set(value, root);
         }
 
-        return parent[value];
+        return root;
     }
 
     /**
@@ -48,18 +69,20 @@ public class DSU {
      * @param x первый элемент
      * @param y второй элемент
      */
-    public void union(int x, int y) {
-        int rootX = find(x);
-        int rootY = find(y);
+    public void union(long x, long y) {
+        long rootX = find(x);
+        long rootY = find(y);
 
         if (rootX != rootY) {
-            if (rank[rootX] < rank[rootY]) {
-                parent[rootX] = rootY;
-            } else if (rank[rootX] > rank[rootY]) {
-                parent[rootY] = rootX;
+            long rankX = rank.get(rootX);
+            long rankY = rank.get(rootY);
+            if (rankX < rankY) {
+                parent.set(rootX, rootY);
+            } else if (rankX > rankY) {
+                parent.set(rootY, rootX);
             } else {
-                parent[rootY] = rootX;
-                rank[rootX]++;
+                parent.set(rootY, rootX);
+                rank.set(rootX, rankX + 1);
             }
         }
     }
@@ -71,7 +94,7 @@ public class DSU {
      * @param y второй элемент
      * @return {@code true} если элементы связаны, {@code false} в противном случае
      */
-    public boolean connected(int x, int y) {
+    public boolean connected(long x, long y) {
         return find(x) == find(y);
     }
 }
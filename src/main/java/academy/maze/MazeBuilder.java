@@ -5,14 +5,16 @@ import static academy.maze.MazeConfig.BORDER_WIDTH;
 import academy.maze.dto.CellType;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Point;
+import academy.maze.grid.GridStorage;
+import academy.maze.grid.MutableMazeGrid;
 
 /**
  * Строитель лабиринта, предоставляющий удобный API для поэтапного создания лабиринта. Обеспечивает управление границами
  * и проверку валидности операций.
  */
 public final class MazeBuilder {
-    /** Двумерный массив ячеек лабиринта. Индексы: [y][x], где y - строка, x - столбец */
-    private final CellType[][] cells;
+    /** Сетка ячеек лабиринта. Изначально заполнена стенами */
+    private final MutableMazeGrid cells;
 
     /** Полная ширина лабиринта включая границы */
     public final int width;
@@ -29,6 +31,18 @@ public final class MazeBuilder {
      * @throws IllegalArgumentException если width или height <= 0
      */
     public MazeBuilder(int width, int height) {
+        this(width, height, GridStorage.HEAP);
+    }
+
+    /**
+     * Создает строитель лабиринта с указанными размерами, размещая сетку в заданном хранилище.
+     *
+     * @param width внутренняя ширина лабиринта (без учета границ)
+     * @param height внутренняя высота лабиринта (без учета границ)
+     * @param storage хранилище сетки лабиринта
+     * @throws IllegalArgumentException если width или height <= 0 или сетка не помещается в хранилище
+     */
+    public MazeBuilder(int width, int height, GridStorage storage) {
         if (width <= 0 || height <= 0) {
             throw new IllegalArgumentException("Maze width and height must be bigger than zero");
         }
@@ -36,17 +50,16 @@ public final class MazeBuilder {
         this.width = width + BORDER_WIDTH * 2;
         this.height = height + BORDER_WIDTH * 2;
 
-        this.cells = new CellType[this.height][this.width];
-        createEmptyGrid();
+        this.cells = storage.newGrid(this.width, this.height);
     }
 
-    /** Инициализирует сетку лабиринта стенами. Вызывается автоматически при создании строителя. */
-    private void createEmptyGrid() {
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                cells[y][x] = CellType.WALL;
-            }
-        }
+    /**
+     * Возвращает хранилище, в котором размещена сетка строящегося лабиринта.
+     *
+     * @return хранилище сетки
+     */
+    public GridStorage storage() {
+        return cells.storage();
     }
 
     /**
@@ -57,7 +70,18 @@ public final class MazeBuilder {
      *     лабиринта
      */
     public boolean isInBounds(Point point) {
-        return point.x() > 0 && point.x() < width - BORDER_WIDTH && point.y() > 0 && point.y() < height - BORDER_WIDTH;
+        return isInBounds(point.x(), point.y());
+    }
+
+    /**
+     * Проверяет, находится ли ячейка внутри внутренней области лабиринта (исключая границы).
+     *
+     * @param x координата X
+     * @param y координата Y
+     * @return true если ячейка находится внутри рабочей области лабиринта
+     */
+    public boolean isInBounds(int x, int y) {
+        return x > 0 && x < width - BORDER_WIDTH && y > 0 && y < height - BORDER_WIDTH;
     }
 
     /**
@@ -69,8 +93,39 @@ public final class MazeBuilder {
      * @return {@code true} если операция выполнена успешно, {@code false} если точка вне границ
      */
     public boolean setCell(Point point, CellType type) {
-        if (isInBounds(point)) {
-            cells[point.y()][point.x()] = type;
+        return setCell(point.x(), point.y(), type);
+    }
+
+    /**
+     * Устанавливает тип ячейки по координатам без создания {@link Point}. Операция выполняется только если ячейка
+     * находится внутри рабочей области.
+     *
+     * @param x координата X
+     * @param y координата Y
+     * @param type тип ячейки
+     * @return {@code true} если операция выполнена успешно, {@code false} если ячейка вне границ
+     */
+    public boolean setCell(int x, int y, CellType type) {
+        if (isInBounds(x, y)) {
+            cells.set(x, y, type);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Устанавливает тип ячейки так, что одновременные вызовы из разных потоков не теряют записей соседних ячеек. Все
+     * потоки, параллельно изменяющие сетку, должны использовать этот метод.
+     *
+     * @param x координата X
+     * @param y координата Y
+     * @param type тип ячейки
+     * @return {@code true} если операция выполнена успешно, {@code false} если ячейка вне границ
+     */
+    public boolean setCellAtomically(int x, int y, CellType type) {
+        if (isInBounds(x, y)) {
+            cells.setAtomically(x, y, type);
             return true;
         }
 
@@ -78,11 +133,12 @@ public final class MazeBuilder {
     }
 
     /**
-     * Создает объект лабиринта на основе текущего состояния строителя.
+     * Создает объект лабиринта на основе текущего состояния строителя. Лабиринт получает неизменяемый снимок сетки за
+     * O(1); если строитель продолжит изменять ячейки, сетка будет скопирована при первой записи.
      *
      * @return новый объект {@link Maze} с текущей конфигурацией ячеек
      */
     public Maze build() {
-        return new Maze(cells, height, width);
+        return new Maze(cells.snapshot());
     }
 }
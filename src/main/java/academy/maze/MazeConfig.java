@@ -6,10 +6,22 @@ import java.util.Properties;
 public final class MazeConfig {
     public static final int BORDER_WIDTH;
 
+    /** Сторона плитки хранилища {@code TILED}: степень двойки */
+    public static final int TILE_SIZE;
+
+    /** Максимальное количество плиток одного массива в памяти или {@code 0}, если вытеснение в файл отключено */
+    public static final int TILE_MAX_RESIDENT;
+
+    /** Сторона плитки параллельной генерации в ячейках */
+    public static final int PARALLEL_TILE_SIZE;
+
     static {
         var resourceLoader = new ResourceLoader();
         Properties props = resourceLoader.loadMazeConfig();
 
         BORDER_WIDTH = Integer.parseInt(props.getProperty("maze.border.width"));
+        TILE_SIZE = Integer.parseInt(props.getProperty("maze.tile.size"));
+        TILE_MAX_RESIDENT = Integer.parseInt(props.getProperty("maze.tile.max-resident"));
+        PARALLEL_TILE_SIZE = Integer.parseInt(props.getProperty("maze.parallel.tile-size"));
     }
 }
@@ -1,12 +1,17 @@
 package academy.maze;
 
+import academy.maze.solver.DistanceField;
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /** Сервис для работы с файлами лабиринтов. Обеспечивает сохранение и загрузку текстового представления лабиринтов. */
 public class MazeFileService {
@@ -25,6 +30,21 @@ public class MazeFileService {
         }
     }
 
+    /**
+     * Записывает лабиринт в файл по частям, не собирая его текст целиком.
+     *
+     * @param filePath путь к файлу для сохранения
+     * @param writer действие, записывающее текст лабиринта в переданный приемник
+     * @throws RuntimeException если произошла ошибка при записи файла
+     */
+    public void writeMazeToFile(String filePath, Consumer<Appendable> writer) {
+        try (BufferedWriter out = Files.newBufferedWriter(Path.of(filePath), StandardCharsets.UTF_8)) {
+            writer.accept(out);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to save maze to file: " + filePath + ". Reason: " + e.getMessage());
+        }
+    }
+
     /**
      * Загружает лабиринт из файла и возвращает его в виде списка строк. Каждая строка представляет одну строку
      * лабиринта.
@@ -47,4 +67,51 @@ public class MazeFileService {
 
         return rows;
     }
+
+    /**
+     * Загружает файл запросов для пакетного решения и возвращает его строки.
+     *
+     * @param filePath путь к файлу с запросами
+     * @return список строк файла
+     * @throws RuntimeException если произошла ошибка при чтении файла
+     */
+    public List<String> loadQueriesFromFile(String filePath) {
+        try {
+            return Files.readAllLines(Path.of(filePath));
+        } catch (Exception e) {
+            throw new RuntimeException("Error reading queries file: " + filePath + ". Reason: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Сохраняет поле расстояний в двоичный файл.
+     *
+     * @param field поле расстояний
+     * @param filePath путь к файлу для сохранения
+     * @throws RuntimeException если произошла ошибка при записи файла
+     */
+    public void saveDistanceField(DistanceField field, String filePath) {
+        try (OutputStream out = Files.newOutputStream(Path.of(filePath))) {
+            field.write(out);
+        } catch (Exception e) {
+            throw new RuntimeException(
+                    "Failed to save distance field to file: " + filePath + ". Reason: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Загружает поле расстояний из двоичного файла.
+     *
+     * @param filePath путь к файлу поля
+     * @return прочитанное поле расстояний
+     * @throws RuntimeException если произошла ошибка при чтении файла
+     */
+    public DistanceField loadDistanceField(String filePath) {
+        try (InputStream in = Files.newInputStream(Path.of(filePath))) {
+            return DistanceField.read(in);
+        } catch (Exception e) {
+            throw new RuntimeException(
+                    "Error reading distance field file: " + filePath + ". Reason: " + e.getMessage());
+        }
+    }
 }
@@ -5,6 +5,7 @@ import static academy.maze.MazeConfig.BORDER_WIDTH;
 import academy.maze.dto.CellType;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Point;
+import academy.maze.grid.GridStorage;
 import academy.maze.styles.StylesStorage;
 import java.util.List;
 
@@ -27,6 +28,18 @@ public class MazeParser {
      *     </ul>
      */
     public Maze parse(List<String> rows) {
+        return parse(rows, GridStorage.HEAP);
+    }
+
+    /**
+     * Преобразует текстовое представление лабиринта в объект {@link Maze}, размещая сетку в заданном хранилище.
+     *
+     * @param rows список строк, представляющих лабиринт
+     * @param storage хранилище сетки лабиринта
+     * @return объект {@link Maze}, созданный на основе текстового представления
+     * @throws IllegalArgumentException если строки не образуют корректный лабиринт
+     */
+    public Maze parse(List<String> rows, GridStorage storage) {
         if (rows == null || rows.isEmpty()) {
             throw new IllegalArgumentException("Maze rows cannot be null or empty");
         }
@@ -34,7 +47,7 @@ public class MazeParser {
         var styles = new StylesStorage();
         int height = rows.size();
         int width = rows.getFirst().length();
-        var builder = new MazeBuilder(width - 2 * BORDER_WIDTH, height - 2 * BORDER_WIDTH);
+        var builder = new MazeBuilder(width - 2 * BORDER_WIDTH, height - 2 * BORDER_WIDTH, storage);
 
         for (int y = 0; y < height; y++) {
             if (rows.get(y).length() != width) {
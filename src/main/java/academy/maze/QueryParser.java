@@ -0,0 +1,73 @@
+package academy.maze;
+
+import academy.maze.dto.Point;
+import academy.maze.dto.Query;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Парсер файла запросов для пакетного решения. Каждая непустая строка - один запрос в одном из форматов:
+ *
+ * <ul>
+ *   <li>CSV: {@code x1,y1,x2,y2} - координаты начальной и конечной точек
+ *   <li>JSON: {@code {"id": 7, "start": {"x": 1, "y": 1}, "end": {"x": 9, "y": 9}}}; поле {@code id} необязательно
+ * </ul>
+ *
+ * <p>Строки, начинающиеся с {@code #}, пропускаются. Запросы без номера нумеруются по порядку с нуля.
+ */
+public class QueryParser {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Разбирает строки файла запросов.
+     *
+     * @param lines строки файла
+     * @return запросы в порядке строк
+     * @throws IllegalArgumentException если строка не соответствует ни одному формату
+     */
+    public List<Query> parse(List<String> lines) {
+        var queries = new ArrayList<Query>(lines.size());
+        for (int line = 0; line < lines.size(); line++) {
+            String text = lines.get(line).trim();
+            if (text.isEmpty() || text.startsWith("#")) {
+                continue;
+            }
+
+            try {
+                queries.add(text.startsWith("{") ? parseJson(text, queries.size()) : parseCsv(text, queries.size()));
+            } catch (Exception e) {
+                throw new IllegalArgumentException(
+                        "Invalid query at line " + (line + 1) + ": " + text + " (" + e.getMessage() + ")", e);
+            }
+        }
+
+        return queries;
+    }
+
+    private static Query parseCsv(String text, int id) {
+        String[] parts = text.split(",");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Expected x1,y1,x2,y2");
+        }
+
+        var start = new Point(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        var end = new Point(Integer.parseInt(parts[2].trim()), Integer.parseInt(parts[3].trim()));
+        return new Query(id, start, end);
+    }
+
+    private static Query parseJson(String text, int id) throws Exception {
+        JsonNode node = MAPPER.readTree(text);
+        return new Query(node.has("id") ? node.get("id").asInt() : id, point(node, "start"), point(node, "end"));
+    }
+
+    private static Point point(JsonNode node, String field) {
+        JsonNode point = node.get(field);
+        if (point == null || !point.path("x").isInt() || !point.path("y").isInt()) {
+            throw new IllegalArgumentException("Missing point: " + field);
+        }
+
+        return new Point(point.get("x").asInt(), point.get("y").asInt());
+    }
+}
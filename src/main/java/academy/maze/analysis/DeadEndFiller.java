@@ -0,0 +1,178 @@
+package academy.maze.analysis;
+
+import academy.maze.dto.Direction;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Point;
+import academy.maze.grid.MazeGrid;
+import academy.maze.grid.PackedGrid;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Заполнение тупиков: предварительная обработка лабиринта перед поиском пути.
+ *
+ * <p>Ячейка с единственным проходимым соседом - тупик, и кратчайший путь через нее не проходит, если она не является
+ * начальной или конечной точкой. Тупик замуровывается, после чего его сосед сам может стать тупиком. Алгоритм
+ * работает следующим образом:
+ *
+ * <ol>
+ *   <li>Строки лабиринта делятся на полосы; для каждой ячейки параллельно считается количество проходимых соседей, и
+ *       каждая полоса собирает свой список тупиков
+ *   <li>Полосы параллельно обрабатывают свои списки: тупик замуровывается, а степени его соседей уменьшаются. Сосед,
+ *       степень которого стала равна единице, продолжает цепочку в том же потоке, даже если лежит в другой полосе
+ *   <li>Проходимые ячейки, которые не были замурованы, копируются в новый лабиринт
+ * </ol>
+ *
+ * <p>Защищенные точки (обычно начальная и конечная) не замуровываются. В идеальном лабиринте после заполнения остается
+ * только коридор между защищенными точками, а в лабиринте с циклами - еще и циклы с ведущими к ним коридорами. Поэтому
+ * любой {@link academy.maze.solver.Solver} на результате находит путь той же длины, что и на исходном лабиринте.
+ * Деревья проходов без защищенных точек замуровываются целиком; одиночные изолированные ячейки остаются.
+ *
+ * @implNote Сложность: O(width × height) по времени, деленная на число потоков, и 4 байта на ячейку по памяти. Степени
+ *     ячеек хранятся в {@link AtomicIntegerArray}; цепочку продолжает только поток, уменьшивший степень ячейки до
+ *     единицы, поэтому каждая ячейка замуровывается ровно один раз без блокировок.
+ */
+public class DeadEndFiller {
+    /** Максимальное количество ячеек, которое помещается в {@code int}-индекс и Java-массив */
+    private static final long MAX_CELLS = Integer.MAX_VALUE - 8;
+
+    /** Количество полос на поток: запас для балансировки полос разной стоимости */
+    private static final int STRIPES_PER_THREAD = 4;
+
+    /** Степень стен и замурованных ячеек: остается отрицательной после любого количества уменьшений */
+    private static final int FILLED = Integer.MIN_VALUE / 2;
+
+    private static final Direction[] DIRECTIONS = Direction.getDirections();
+
+    /**
+     * Заполняет тупики лабиринта.
+     *
+     * @param maze лабиринт
+     * @param protectedPoints точки, которые не замуровываются; точки вне лабиринта игнорируются
+     * @return новый лабиринт, в котором тупики заменены стенами. Исходный лабиринт не изменяется
+     * @throws IllegalArgumentException если лабиринт слишком велик для {@code int}-индексов ячеек
+     */
+    public Maze fill(Maze maze, Point... protectedPoints) {
+        MazeGrid cells = maze.cells();
+        int width = maze.width();
+        int height = maze.height();
+        if ((long) width * height > MAX_CELLS) {
+            throw new IllegalArgumentException("Maze " + width + "x" + height + " is too large to fill dead ends");
+        }
+
+        int[] kept = Arrays.stream(protectedPoints)
+                .filter(point -> point.x() >= 0 && point.x() < width && point.y() >= 0 && point.y() < height)
+                .mapToInt(point -> point.y() * width + point.x())
+                .toArray();
+        var degrees = new AtomicIntegerArray(width * height);
+        int stripes = Math.min(height, ForkJoinPool.getCommonPoolParallelism() * STRIPES_PER_THREAD);
+        int stripeHeight = (height + stripes - 1) / stripes;
+
+        int[][] deadEnds = IntStream.range(0, stripes)
+                .parallel()
+                .mapToObj(stripe -> countDegrees(
+                        cells, degrees, kept, stripe * stripeHeight, Math.min(height, (stripe + 1) * stripeHeight)))
+                .toArray(int[][]::new);
+        IntStream.range(0, stripes)
+                .parallel()
+                .forEach(stripe -> fillChains(deadEnds[stripe], degrees, kept, width, height));
+
+        var pruned = new PackedGrid(width, height, cells.storage());
+        IntStream.range(0, stripes)
+                .parallel()
+                .forEach(stripe -> copyStripe(
+                        cells, pruned, degrees, stripe * stripeHeight, Math.min(height, (stripe + 1) * stripeHeight)));
+
+        return new Maze(pruned);
+    }
+
+    /** Считает степени ячеек полосы и возвращает ее тупики. */
+    private static int[] countDegrees(MazeGrid cells, AtomicIntegerArray degrees, int[] kept, int fromY, int toY) {
+        int width = cells.width();
+        var deadEnds = new int[16];
+        int count = 0;
+
+        for (int y = fromY; y < toY; y++) {
+            for (int x = 0; x < width; x++) {
+                int cell = y * width + x;
+                if (cells.isWall(x, y)) {
+                    degrees.set(cell, FILLED);
+                    continue;
+                }
+
+                int degree = 0;
+                for (Direction direction : DIRECTIONS) {
+                    int neighborX = x + direction.deltaX;
+                    int neighborY = y + direction.deltaY;
+                    if (neighborX >= 0
+                            && neighborX < width
+                            && neighborY >= 0
+                            && neighborY < cells.height()
+                            && !cells.isWall(neighborX, neighborY)) {
+                        degree++;
+                    }
+                }
+                degrees.set(cell, degree);
+
+                if (degree == 1 && !isProtected(kept, cell)) {
+                    if (count == deadEnds.length) {
+                        deadEnds = Arrays.copyOf(deadEnds, count * 2);
+                    }
+                    deadEnds[count++] = cell;
+                }
+            }
+        }
+
+        return Arrays.copyOf(deadEnds, count);
+    }
+
+    /** Замуровывает тупики полосы и продолжает цепочки через соседей, ставших тупиками. */
+    private static void fillChains(int[] deadEnds, AtomicIntegerArray degrees, int[] kept, int width, int height) {
+        for (int deadEnd : deadEnds) {
+            int cell = deadEnd;
+            while (cell >= 0) {
+                degrees.addAndGet(cell, FILLED);
+                int next = -1;
+                int x = cell % width;
+                int y = cell / width;
+                for (Direction direction : DIRECTIONS) {
+                    int neighborX = x + direction.deltaX;
+                    int neighborY = y + direction.deltaY;
+                    if (neighborX < 0 || neighborX >= width || neighborY < 0 || neighborY >= height) {
+                        continue;
+                    }
+
+                    int neighbor = neighborY * width + neighborX;
+                    if (degrees.decrementAndGet(neighbor) == 1 && !isProtected(kept, neighbor)) {
+                        next = neighbor;
+                    }
+                }
+                cell = next;
+            }
+        }
+    }
+
+    private static void copyStripe(
+            MazeGrid cells, PackedGrid pruned, AtomicIntegerArray degrees, int fromY, int toY) {
+        int width = cells.width();
+        for (int y = fromY; y < toY; y++) {
+            for (int x = 0; x < width; x++) {
+                if (degrees.get(y * width + x) >= 0) {
+                    pruned.setAtomically(x, y, cells.get(x, y));
+                }
+            }
+        }
+    }
+
+    private static boolean isProtected(int[] kept, int cell) {
+        for (int protectedCell : kept) {
+            if (protectedCell == cell) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
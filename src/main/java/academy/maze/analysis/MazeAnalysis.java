@@ -0,0 +1,103 @@
+package academy.maze.analysis;
+
+import academy.maze.ConcurrentDSU;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Point;
+
+/**
+ * Результат анализа связности лабиринта, полученный {@link MazeAnalyzer}.
+ *
+ * <p>Помимо сводных счетчиков хранит разметку компонент, по которой {@link #connected} отвечает за O(1), существует ли
+ * путь между двумя точками.
+ */
+public final class MazeAnalysis {
+    private final Maze maze;
+    private final ConcurrentDSU components;
+    private final long passableCells;
+    private final long componentCount;
+    private final long isolatedCells;
+    private final long cycles;
+
+    MazeAnalysis(
+            Maze maze,
+            ConcurrentDSU components,
+            long passableCells,
+            long componentCount,
+            long isolatedCells,
+            long cycles) {
+        this.maze = maze;
+        this.components = components;
+        this.passableCells = passableCells;
+        this.componentCount = componentCount;
+        this.isolatedCells = isolatedCells;
+        this.cycles = cycles;
+    }
+
+    /**
+     * Возвращает количество проходимых ячеек.
+     *
+     * @return количество ячеек, не являющихся стенами
+     */
+    public long passableCells() {
+        return passableCells;
+    }
+
+    /**
+     * Возвращает количество компонент связности проходимых ячеек.
+     *
+     * @return количество компонент связности
+     */
+    public long components() {
+        return componentCount;
+    }
+
+    /**
+     * Возвращает количество проходимых ячеек без проходимых соседей.
+     *
+     * @return количество изолированных ячеек
+     */
+    public long isolatedCells() {
+        return isolatedCells;
+    }
+
+    /**
+     * Возвращает цикломатическое число графа проходов - количество независимых циклов.
+     *
+     * @return количество ребер между соседними проходимыми ячейками, не вошедших в остовный лес
+     */
+    public long cycles() {
+        return cycles;
+    }
+
+    /**
+     * Проверяет, является ли лабиринт идеальным: все проходы связаны и не образуют циклов.
+     *
+     * @return {@code true}, если граф проходов - дерево
+     */
+    public boolean isPerfect() {
+        return componentCount == 1 && cycles == 0;
+    }
+
+    /**
+     * Проверяет за O(1), соединены ли две точки путем по проходам.
+     *
+     * @param start первая точка
+     * @param end вторая точка
+     * @return {@code true}, если обе точки проходимы и лежат в одной компоненте связности
+     */
+    public boolean connected(Point start, Point end) {
+        return isPassable(start) && isPassable(end) && components.connected(index(start), index(end));
+    }
+
+    private boolean isPassable(Point point) {
+        return point.x() >= 0
+                && point.x() < maze.width()
+                && point.y() >= 0
+                && point.y() < maze.height()
+                && !maze.cells().isWall(point.x(), point.y());
+    }
+
+    private int index(Point point) {
+        return point.y() * maze.width() + point.x();
+    }
+}
@@ -0,0 +1,107 @@
+package academy.maze.analysis;
+
+import academy.maze.ConcurrentDSU;
+import academy.maze.dto.Maze;
+import academy.maze.grid.MazeGrid;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Анализатор связности лабиринта. Используется для проверки лабиринтов из внешних файлов перед запуском решателей.
+ *
+ * <p>Алгоритм работает следующим образом:
+ *
+ * <ol>
+ *   <li>Строки лабиринта делятся на полосы, которые размечаются параллельно
+ *   <li>Каждая проходимая ячейка объединяется в {@link ConcurrentDSU} с проходимыми соседями слева и сверху, в том
+ *       числе с соседями из строки соседней полосы
+ *   <li>Каждое ребро либо объединяет две компоненты, либо замыкает цикл, поэтому количество компонент и циклов
+ *       получается из счетчиков ячеек, ребер и успешных объединений без обхода графа
+ *   <li>Разметка уплощается, чтобы проверка связности двух точек выполнялась за O(1)
+ * </ol>
+ *
+ * @implNote Сложность: O(width × height × α) по времени, деленная на число потоков, и 4 байта на ячейку по памяти.
+ *     Полосы не синхронизируются между собой: общие строки на границах полос объединяются через CAS.
+ */
+public class MazeAnalyzer {
+    /** Максимальное количество ячеек, которое помещается в {@code int}-индекс и Java-массив */
+    public static final long MAX_CELLS = Integer.MAX_VALUE - 8;
+
+    /** Количество полос на поток: запас для балансировки полос разной стоимости */
+    private static final int STRIPES_PER_THREAD = 4;
+
+    /**
+     * Анализирует связность проходов лабиринта.
+     *
+     * @param maze лабиринт
+     * @return количество компонент, изолированных ячеек, циклов и разметка компонент
+     * @throws IllegalArgumentException если лабиринт слишком велик для {@code int}-индексов ячеек
+     */
+    public MazeAnalysis analyze(Maze maze) {
+        int width = maze.width();
+        int height = maze.height();
+        if ((long) width * height > MAX_CELLS) {
+            throw new IllegalArgumentException("Maze " + width + "x" + height + " is too large to analyze");
+        }
+
+        var dsu = new ConcurrentDSU(width * height);
+        int stripes = Math.min(height, ForkJoinPool.getCommonPoolParallelism() * STRIPES_PER_THREAD);
+        int stripeHeight = (height + stripes - 1) / stripes;
+
+        Counts counts = IntStream.range(0, stripes)
+                .parallel()
+                .mapToObj(stripe -> labelStripe(
+                        maze.cells(), dsu, stripe * stripeHeight, Math.min(height, (stripe + 1) * stripeHeight)))
+                .reduce(new Counts(0, 0, 0, 0), Counts::plus);
+        dsu.flatten();
+
+        long components = counts.passable() - counts.merges();
+        return new MazeAnalysis(
+                maze, dsu, counts.passable(), components, counts.isolated(), counts.edges() - counts.merges());
+    }
+
+    private static Counts labelStripe(MazeGrid cells, ConcurrentDSU dsu, int fromY, int toY) {
+        int width = cells.width();
+        long passable = 0;
+        long edges = 0;
+        long merges = 0;
+        long isolated = 0;
+
+        for (int y = fromY; y < toY; y++) {
+            for (int x = 0; x < width; x++) {
+                if (cells.isWall(x, y)) continue;
+
+                passable++;
+                int cell = y * width + x;
+                boolean left = x > 0 && !cells.isWall(x - 1, y);
+                boolean up = y > 0 && !cells.isWall(x, y - 1);
+                if (left) {
+                    edges++;
+                    merges += dsu.union(cell - 1, cell) ? 1 : 0;
+                }
+                if (up) {
+                    edges++;
+                    merges += dsu.union(cell - width, cell) ? 1 : 0;
+                }
+
+                boolean right = x + 1 < width && !cells.isWall(x + 1, y);
+                boolean down = y + 1 < cells.height() && !cells.isWall(x, y + 1);
+                if (!left && !up && !right && !down) {
+                    isolated++;
+                }
+            }
+        }
+
+        return new Counts(passable, edges, merges, isolated);
+    }
+
+    private record Counts(long passable, long edges, long merges, long isolated) {
+        Counts plus(Counts other) {
+            return new Counts(
+                    passable + other.passable,
+                    edges + other.edges,
+                    merges + other.merges,
+                    isolated + other.isolated);
+        }
+    }
+}
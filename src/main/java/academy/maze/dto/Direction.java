@@ -1,16 +1,18 @@
 package academy.maze.dto;
 
 import java.util.Arrays;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
-/** Направления движения в лабиринте. */
+/**
+ * Направления движения в лабиринте. Противоположные направления стоят парами, поэтому {@code ordinal() ^ 1} дает
+ * обратное направление, а порядковый номер помещается в 2 бита.
+ */
 public enum Direction {
     UP(0, -1),
     DOWN(0, 1),
     RIGHT(1, 0),
     LEFT(-1, 0);
 
-    public static final Random RANDOM = new Random();
     private static final Direction[] VALUES = values();
     public final int deltaX;
     public final int deltaY;
@@ -23,12 +25,13 @@ public enum Direction {
     /**
      * Возвращает все направления в случайном порядке.
      *
+     * @param random источник случайных чисел генерации
      * @return массив направлений в случайном порядке
      */
-    public static Direction[] getShuffledDirections() {
+    public static Direction[] getShuffledDirections(RandomGenerator random) {
         Direction[] shuffledDirections = getDirections();
         for (int i = shuffledDirections.length - 1; i > 0; i--) {
-            int j = RANDOM.nextInt(i + 1);
+            int j = random.nextInt(i + 1);
             Direction temp = shuffledDirections[i];
             shuffledDirections[i] = shuffledDirections[j];
             shuffledDirections[j] = temp;
@@ -40,4 +43,23 @@ public enum Direction {
     public static Direction[] getDirections() {
         return Arrays.copyOf(VALUES, VALUES.length);
     }
+
+    /**
+     * Возвращает направление по его порядковому номеру без копирования массива значений.
+     *
+     * @param ordinal порядковый номер направления
+     * @return направление
+     */
+    public static Direction of(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Возвращает противоположное направление.
+     *
+     * @return направление, отменяющее шаг в этом направлении
+     */
+    public Direction opposite() {
+        return VALUES[ordinal() ^ 1];
+    }
 }
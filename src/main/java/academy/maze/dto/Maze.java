@@ -1,10 +1,47 @@
 package academy.maze.dto;
 
+import academy.maze.grid.CopyOnWriteGrid;
+import academy.maze.grid.MazeGrid;
+import academy.maze.grid.MutableMazeGrid;
+
 /**
- * Лабиринт.
+ * Лабиринт. Неизменяем: изменяемая сетка при создании заменяется своим снимком, поэтому один лабиринт можно без
+ * копирования и блокировок передавать в любое количество потоков, одновременно решающих его.
  *
- * @param cells Массив ячеек лабиринта.
- * @param height Высота лабиринта с границами
- * @param width ширина лабиринта с границами
+ * @param cells Сетка ячеек лабиринта с границами.
  */
-public record Maze(CellType[][] cells, int height, int width) {}
+public record Maze(MazeGrid cells) {
+    public Maze {
+        if (cells instanceof MutableMazeGrid mutable) {
+            cells = mutable.snapshot();
+        }
+    }
+
+    /**
+     * Создает редактируемую копию сетки лабиринта. Копируются только изменяемые строки; сам лабиринт не изменяется.
+     * Новый лабиринт получается через {@code new Maze(grid)}.
+     *
+     * @return сетка с копированием при записи поверх ячеек этого лабиринта
+     */
+    public CopyOnWriteGrid edit() {
+        return new CopyOnWriteGrid(cells);
+    }
+
+    /**
+     * Возвращает высоту лабиринта.
+     *
+     * @return высота лабиринта с границами
+     */
+    public int height() {
+        return cells.height();
+    }
+
+    /**
+     * Возвращает ширину лабиринта.
+     *
+     * @return ширина лабиринта с границами
+     */
+    public int width() {
+        return cells.width();
+    }
+}
@@ -1,9 +1,318 @@
 package academy.maze.dto;
 
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
 /**
  * Путь в лабиринте. Точки в лабиринте находятся в порядке следования. Первой точкой является стартовая, последней —
  * финишная.
  *
- * @param points координаты точек пути.
+ * <p>Путь хранится компактно: координаты стартовой точки и по 2 бита на каждый шаг ({@link Direction#ordinal()}), то
+ * есть 32 шага в одном {@code long}. Для произвольного доступа каждые {@value #CHECKPOINT_STEP} шагов запоминаются
+ * координаты контрольной точки, поэтому {@link #get} проходит не более {@value #CHECKPOINT_STEP} шагов. Путь из 10
+ * миллионов шагов занимает около 2.8 MB вместо сотен мегабайт для массива {@link Point}.
+ *
+ * <p>Для обхода без создания объектов используется {@link #forEachPoint}.
  */
-public record Path(Point[] points) {}
+public final class Path implements Iterable<Point> {
+    /** Количество шагов между контрольными точками */
+    private static final int CHECKPOINT_STEP = 256;
+
+    private static final Path EMPTY = new Path(0, 0, new long[0], 0);
+
+    private final int startX;
+    private final int startY;
+
+    /** Коды направлений шагов, по 2 бита на шаг */
+    private final long[] moves;
+
+    /** Количество точек пути */
+    private final int length;
+
+    /** Координаты x, y точек с индексами, кратными {@link #CHECKPOINT_STEP} */
+    private final int[] checkpoints;
+
+    private Path(int startX, int startY, long[] moves, int length) {
+        this.startX = startX;
+        this.startY = startY;
+        this.moves = moves;
+        this.length = length;
+        this.checkpoints = new int[(Math.max(length, 1) - 1) / CHECKPOINT_STEP * 2 + 2];
+
+        int x = startX;
+        int y = startY;
+        for (int step = 0; step < length - 1; step++) {
+            if (step % CHECKPOINT_STEP == 0) {
+                checkpoints[step / CHECKPOINT_STEP * 2] = x;
+                checkpoints[step / CHECKPOINT_STEP * 2 + 1] = y;
+            }
+            Direction direction = direction(step);
+            x += direction.deltaX;
+            y += direction.deltaY;
+        }
+        if ((length - 1) % CHECKPOINT_STEP == 0 && length > 0) {
+            checkpoints[checkpoints.length - 2] = x;
+            checkpoints[checkpoints.length - 1] = y;
+        }
+    }
+
+    /**
+     * Возвращает пустой путь, означающий отсутствие решения.
+     *
+     * @return путь нулевой длины
+     */
+    public static Path empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Создает путь из последовательности соседних точек.
+     *
+     * @param points точки пути в порядке следования
+     * @return путь через указанные точки
+     * @throws IllegalArgumentException если соседние точки пути не являются соседними клетками
+     */
+    public static Path of(Point... points) {
+        if (points.length == 0) {
+            return EMPTY;
+        }
+
+        var builder = new Builder(points[0]);
+        for (int i = 1; i < points.length; i++) {
+            builder.append(directionBetween(points[i - 1], points[i]));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Возвращает количество точек пути.
+     *
+     * @return количество точек, 0 для пустого пути
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Проверяет, пуст ли путь.
+     *
+     * @return {@code true} если путь не содержит точек
+     */
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    /**
+     * Возвращает стартовую точку пути.
+     *
+     * @return первая точка
+     * @throws IndexOutOfBoundsException если путь пуст
+     */
+    public Point start() {
+        return get(0);
+    }
+
+    /**
+     * Возвращает финишную точку пути.
+     *
+     * @return последняя точка
+     * @throws IndexOutOfBoundsException если путь пуст
+     */
+    public Point end() {
+        return get(length - 1);
+    }
+
+    /**
+     * Возвращает направление шага из точки {@code step} в точку {@code step + 1}.
+     *
+     * @param step номер шага от 0 до {@code length() - 2}
+     * @return направление шага
+     */
+    public Direction direction(int step) {
+        Objects.checkIndex(step, length - 1);
+        return Direction.of((int) (moves[step >>> 5] >>> (step << 1)) & 0b11);
+    }
+
+    /**
+     * Возвращает точку пути по индексу.
+     *
+     * @param index индекс точки от 0 до {@code length() - 1}
+     * @return точка пути
+     * @implNote Сложность: O({@value #CHECKPOINT_STEP})
+     */
+    public Point get(int index) {
+        Objects.checkIndex(index, length);
+        int checkpoint = index / CHECKPOINT_STEP;
+        int x = checkpoints[checkpoint * 2];
+        int y = checkpoints[checkpoint * 2 + 1];
+
+        for (int step = checkpoint * CHECKPOINT_STEP; step < index; step++) {
+            Direction direction = direction(step);
+            x += direction.deltaX;
+            y += direction.deltaY;
+        }
+
+        return new Point(x, y);
+    }
+
+    /**
+     * Обходит точки пути по порядку без создания объектов {@link Point}.
+     *
+     * @param visitor обработчик, получающий индекс и координаты каждой точки
+     */
+    public void forEachPoint(PointVisitor visitor) {
+        int x = startX;
+        int y = startY;
+        for (int index = 0; index < length; index++) {
+            visitor.visit(index, x, y);
+            if (index < length - 1) {
+                Direction direction = direction(index);
+                x += direction.deltaX;
+                y += direction.deltaY;
+            }
+        }
+    }
+
+    /**
+     * Возвращает тот же путь, пройденный в обратном направлении.
+     *
+     * @return путь от финишной точки к стартовой
+     */
+    public Path reversed() {
+        if (length == 0) {
+            return this;
+        }
+
+        Point end = end();
+        var reversed = new long[moves.length];
+        int steps = length - 1;
+        for (int step = 0; step < steps; step++) {
+            int target = steps - 1 - step;
+            reversed[target >>> 5] |= (long) direction(step).opposite().ordinal() << (target << 1);
+        }
+
+        return new Path(end.x(), end.y(), reversed, length);
+    }
+
+    @Override
+    public Iterator<Point> iterator() {
+        return new Iterator<>() {
+            private int index;
+            private int x = startX;
+            private int y = startY;
+
+            @Override
+            public boolean hasNext() {
+                return index < length;
+            }
+
+            @Override
+            public Point next() {
+                if (index >= length) {
+                    throw new NoSuchElementException();
+                }
+
+                var point = new Point(x, y);
+                if (index < length - 1) {
+                    Direction direction = direction(index);
+                    x += direction.deltaX;
+                    y += direction.deltaY;
+                }
+                index++;
+                return point;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Path path
+                && length == path.length
+                && startX == path.startX
+                && startY == path.startY
+                && Arrays.equals(moves, path.moves);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startX, startY, length, Arrays.hashCode(moves));
+    }
+
+    @Override
+    public String toString() {
+        return isEmpty() ? "Path[]" : "Path[" + start() + " -> " + end() + ", length=" + length + "]";
+    }
+
+    private static Direction directionBetween(Point from, Point to) {
+        for (Direction direction : Direction.values()) {
+            if (from.x() + direction.deltaX == to.x() && from.y() + direction.deltaY == to.y()) {
+                return direction;
+            }
+        }
+
+        throw new IllegalArgumentException("Points " + from + " and " + to + " are not adjacent");
+    }
+
+    /** Обработчик точек пути для обхода без создания объектов. */
+    @FunctionalInterface
+    public interface PointVisitor {
+        /**
+         * Обрабатывает точку пути.
+         *
+         * @param index индекс точки в пути
+         * @param x координата X
+         * @param y координата Y
+         */
+        void visit(int index, int x, int y);
+    }
+
+    /** Строитель пути, добавляющий шаги к стартовой точке. */
+    public static final class Builder {
+        private final int startX;
+        private final int startY;
+        private long[] moves = new long[1];
+        private int steps;
+
+        /**
+         * Создает строитель пути из одной стартовой точки.
+         *
+         * @param start стартовая точка пути
+         */
+        public Builder(Point start) {
+            this.startX = start.x();
+            this.startY = start.y();
+        }
+
+        /**
+         * Добавляет шаг в конец пути.
+         *
+         * @param direction направление шага из текущей последней точки
+         * @return этот строитель
+         * @throws IllegalStateException если путь стал длиннее {@code Integer.MAX_VALUE} точек
+         */
+        public Builder append(Direction direction) {
+            if (steps == Integer.MAX_VALUE - 1) {
+                throw new IllegalStateException("Path is too long");
+            }
+            if (steps >>> 5 == moves.length) {
+                moves = Arrays.copyOf(moves, moves.length * 2);
+            }
+
+            moves[steps >>> 5] |= (long) direction.ordinal() << (steps << 1);
+            steps++;
+            return this;
+        }
+
+        /**
+         * Создает путь из добавленных шагов.
+         *
+         * @return путь из {@code steps + 1} точек
+         */
+        public Path build() {
+            return new Path(startX, startY, Arrays.copyOf(moves, (steps + 31) >>> 5), steps + 1);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package academy.maze.dto;
+
+/**
+ * Запрос пути между двумя точками лабиринта
+ *
+ * @param id номер запроса
+ * @param start начальная точка
+ * @param end конечная точка
+ */
+public record Query(int id, Point start, Point end) {}
@@ -1,7 +1,7 @@
 package academy.maze.generator;
 
 import academy.maze.dto.Point;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Абстрактный базовый класс для всех генераторов лабиринтов.
@@ -10,8 +10,6 @@ import java.util.Random;
  * реализовать метод {@link #generate} с конкретным алгоритмом генерации лабиринта.
  */
 public abstract class AbstractGenerator implements Generator {
-    protected static final Random RANDOM = new Random();
-
     /**
      * Генерирует случайную стартовую точку с нечетными координатами.
      *
@@ -19,9 +17,10 @@ public abstract class AbstractGenerator implements Generator {
      *
      * @param width ширина лабиринта
      * @param height высота лабиринта
+     * @param random источник случайных чисел генерации
      * @return случайная точка с нечетными координатами внутри границ лабиринта
      */
-    protected Point getRandomStartPoint(int width, int height) {
-        return new Point(RANDOM.nextInt(width) / 2 * 2 + 1, RANDOM.nextInt(height) / 2 * 2 + 1);
+    protected Point getRandomStartPoint(int width, int height, RandomGenerator random) {
+        return new Point(random.nextInt(width) / 2 * 2 + 1, random.nextInt(height) / 2 * 2 + 1);
     }
 }
@@ -0,0 +1,84 @@
+package academy.maze.generator;
+
+import static academy.maze.MazeConfig.BORDER_WIDTH;
+
+import academy.maze.grid.GridRowConsumer;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * Абстрактный базовый класс генераторов, в которых каждый узел строки пробивает проход только на восток или на север.
+ *
+ * <p>Строка узлов хранится в том же битовом виде, что и строка сетки {@link GridRowConsumer}: узел {@code i} - бит
+ * {@code 2i + 1}. Решения всех узлов строки принимаются словами по 32 узла: случайное слово {@code nextLong()} дает по
+ * биту на узел, а проходы на восток получаются сдвигом маски на одну ячейку. Наследник выбирает маски проходов
+ * {@link #carveRow}, а класс собирает из них строки сетки.
+ *
+ * @implNote Время генерации - несколько операций на слово из 64 ячеек, память - O(width). Узкое место - запись строк
+ *     получателем, а не выбор проходов.
+ */
+public abstract class AbstractRowCarvingGenerator extends AbstractStreamingGenerator {
+    /** Маска нечетных битов слова - позиций узлов */
+    protected static final long NODE_BITS = 0xAAAA_AAAA_AAAA_AAAAL;
+
+    @Override
+    public void generateRows(int width, int height, SplittableGenerator random, GridRowConsumer consumer) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Maze width and height must be bigger than zero");
+        }
+
+        int gridWidth = width + BORDER_WIDTH * 2;
+        int gridHeight = height + BORDER_WIDTH * 2;
+        int nodesX = (gridWidth - BORDER_WIDTH) / 2;
+        int nodesY = (gridHeight - BORDER_WIDTH) / 2;
+        int words = (gridWidth + Long.SIZE - 1) / Long.SIZE;
+
+        var nodes = new long[words];
+        for (int word = 0; word < words; word++) {
+            int cells = Math.min(Long.SIZE, nodesX * 2 - word * Long.SIZE);
+            nodes[word] = cells <= 0 ? 0 : NODE_BITS & -1L >>> Long.SIZE - cells;
+        }
+        int lastNode = nodesX * 2 - 1;
+
+        var east = new long[words];
+        var north = new long[words];
+        var row = new long[words];
+
+        consumer.begin(gridWidth, gridHeight);
+        for (int nodeY = 0; nodeY < nodesY; nodeY++) {
+            if (nodeY == 0) {
+                System.arraycopy(nodes, 0, east, 0, words);
+                Arrays.fill(north, 0);
+            } else {
+                carveRow(nodes, lastNode, east, north, random);
+            }
+            east[lastNode / Long.SIZE] &= ~(1L << lastNode);
+            consumer.accept(nodeY * 2, north);
+
+            long carry = 0;
+            for (int word = 0; word < words; word++) {
+                row[word] = nodes[word] | east[word] << 1 | carry;
+                carry = east[word] >>> Long.SIZE - 1;
+            }
+            consumer.accept(nodeY * 2 + 1, row);
+        }
+
+        Arrays.fill(row, 0);
+        for (int y = nodesY * 2; y < gridHeight; y++) {
+            consumer.accept(y, row);
+        }
+    }
+
+    /**
+     * Выбирает проходы узлов строки, кроме первой: каждый узел пробивает проход на восток, на север или в оба
+     * направления так, чтобы строка вместе с предыдущими оставалась деревом.
+     *
+     * @param nodes маска узлов строки
+     * @param lastNode позиция последнего узла строки
+     * @param east маска узлов, пробивающих проход на восток. Проход последнего узла на восток отбрасывается
+     * @param north маска узлов, пробивающих проход на север
+     * @param random источник случайных чисел генерации
+     */
+    protected abstract void carveRow(long[] nodes, int lastNode, long[] east, long[] north, RandomGenerator random);
+}
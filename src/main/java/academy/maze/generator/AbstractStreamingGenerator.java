@@ -0,0 +1,34 @@
+package academy.maze.generator;
+
+import academy.maze.MazeBuilder;
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.grid.GridRowConsumer;
+import academy.maze.grid.GridStorage;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * Абстрактный базовый класс построчных генераторов. Полный лабиринт собирается из тех же строк, что выдает
+ * {@link #generateRows}, поэтому при одном зерне оба способа дают одинаковый лабиринт.
+ */
+public abstract class AbstractStreamingGenerator extends AbstractGenerator implements StreamingGenerator {
+    @Override
+    public Maze generate(int width, int height, GridStorage storage, SplittableGenerator random) {
+        var builder = new MazeBuilder(width, height, storage);
+        generateRows(width, height, random, new GridRowConsumer() {
+            @Override
+            public void begin(int gridWidth, int gridHeight) {}
+
+            @Override
+            public void accept(int y, long[] passable) {
+                for (int word = 0; word < passable.length; word++) {
+                    for (long bits = passable[word]; bits != 0; bits &= bits - 1) {
+                        builder.setCell(word * Long.SIZE + Long.numberOfTrailingZeros(bits), y, CellType.PASS);
+                    }
+                }
+            }
+        });
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,32 @@
+package academy.maze.generator;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Генератор лабиринта с использованием алгоритма двоичного дерева.
+ *
+ * <p>Каждый узел, кроме северо-восточного, независимо пробивает проход на север или на восток:
+ *
+ * <ul>
+ *   <li>Узлы верхней строки - только на восток
+ *   <li>Узлы последнего столбца - только на север
+ *   <li>Остальные - в случайном направлении
+ * </ul>
+ *
+ * <p>Результат - идеальный лабиринт с сильным смещением: верхняя строка и правый столбец - сплошные коридоры. Алгоритм
+ * предназначен для быстрой генерации огромных лабиринтов, например для нагрузочных тестов.
+ *
+ * @implNote Решения узлов не зависят друг от друга, поэтому строка выбирается целиком: одно случайное слово задает
+ *     направления 32 узлов.
+ */
+public class BinaryTreeGenerator extends AbstractRowCarvingGenerator {
+    @Override
+    protected void carveRow(long[] nodes, int lastNode, long[] east, long[] north, RandomGenerator random) {
+        for (int word = 0; word < nodes.length; word++) {
+            long bits = random.nextLong();
+            east[word] = nodes[word] & bits;
+            north[word] = nodes[word] & ~bits;
+        }
+        north[lastNode / Long.SIZE] |= 1L << lastNode;
+    }
+}
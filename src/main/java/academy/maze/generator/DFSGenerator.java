@@ -1,13 +1,16 @@
 package academy.maze.generator;
 
+import static academy.maze.MazeConfig.BORDER_WIDTH;
+
 import academy.maze.MazeBuilder;
 import academy.maze.dto.CellType;
 import academy.maze.dto.Direction;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Point;
-import java.util.ArrayDeque;
-import java.util.Deque;
-import java.util.HashSet;
+import academy.maze.grid.GridStorage;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
 
 /**
  * Генератор лабиринта с использованием алгоритма поиска в глубину (DFS).
@@ -34,36 +37,103 @@ import java.util.HashSet;
  *
  * <p>Результат - лабиринт с длинными коридорами и малым количеством тупиков.
  *
- * @implNote Сложность: O(width × height). Каждая клетка обрабатывается один раз.
+ * @implNote Сложность: O(width × height). Каждая клетка обрабатывается один раз. Алгоритм работает с плоскими
+ *     индексами узлов (клеток с нечетными координатами): стек - {@code int[]}, посещенные узлы - битовое множество
+ *     {@code long[]}, случайный порядок направлений выбирается из заранее построенной таблицы перестановок. На каждую
+ *     клетку не создается ни одного объекта; для 10k × 10k вспомогательные данные занимают около 3 MiB битов
+ *     посещения и не более 100 MiB стека в худшем случае.
  */
 public class DFSGenerator extends AbstractGenerator {
+    /** Максимальное количество узлов, которое помещается в плоский {@code int}-индекс и Java-массив */
+    private static final long MAX_NODES = Integer.MAX_VALUE - 8;
+
+    private static final int INITIAL_STACK_CAPACITY = 1024;
+
+    /**
+     * Все 24 перестановки направлений. Номер перестановки составлен из выборов тасования Фишера-Йетса так же, как в
+     * {@link Direction#getShuffledDirections(RandomGenerator)}, поэтому при той же последовательности случайных чисел
+     * лабиринт получается тем же.
+     */
+    private static final Direction[][] PERMUTATIONS = createPermutations();
+
     @Override
-    public Maze generate(int width, int height) {
-        Deque<Point> stack = new ArrayDeque<>();
-        var visited = new HashSet<Point>();
+    public Maze generate(int width, int height, GridStorage storage, SplittableGenerator random) {
+        var builder = new MazeBuilder(width, height, storage);
+        int nodesX = (builder.width - BORDER_WIDTH) / 2;
+        int nodesY = (builder.height - BORDER_WIDTH) / 2;
+        long nodes = (long) nodesX * nodesY;
+        if (nodes > MAX_NODES) {
+            throw new IllegalArgumentException("Maze " + width + "x" + height + " is too large for DFS generator");
+        }
 
-        var builder = new MazeBuilder(width, height);
-        Point start = getRandomStartPoint(width, height);
+        var visited = new long[(int) ((nodes + 63) >>> 6)];
+        var stack = new int[(int) Math.min(nodes, INITIAL_STACK_CAPACITY)];
+        int size = 0;
 
+        Point start = getRandomStartPoint(width, height, random);
+        int startNode = start.y() / 2 * nodesX + start.x() / 2;
         builder.setCell(start, CellType.PASS);
-        stack.push(start);
-        visited.add(start);
+        visited[startNode >>> 6] |= 1L << startNode;
+        stack[size++] = startNode;
+
+        while (size > 0) {
+            int current = stack[--size];
+            int nodeX = current % nodesX;
+            int nodeY = current / nodesX;
 
-        while (!stack.isEmpty()) {
-            Point current = stack.pop();
+            for (Direction direction : PERMUTATIONS[nextPermutation(random)]) {
+                int neighborX = nodeX + direction.deltaX;
+                int neighborY = nodeY + direction.deltaY;
+                if (neighborX < 0 || neighborX >= nodesX || neighborY < 0 || neighborY >= nodesY) continue;
 
-            for (Direction direction : Direction.getShuffledDirections()) {
-                var neighbor = new Point(current.x() + direction.deltaX * 2, current.y() + direction.deltaY * 2);
+                int neighbor = neighborY * nodesX + neighborX;
+                if ((visited[neighbor >>> 6] & 1L << neighbor) != 0) continue;
 
-                if (!builder.setCell(neighbor, CellType.PASS) || visited.contains(neighbor)) continue;
+                builder.setCell(neighborX * 2 + 1, neighborY * 2 + 1, CellType.PASS);
+                builder.setCell(nodeX * 2 + 1 + direction.deltaX, nodeY * 2 + 1 + direction.deltaY, CellType.PASS);
+                visited[neighbor >>> 6] |= 1L << neighbor;
 
-                var wall = new Point(current.x() + direction.deltaX, current.y() + direction.deltaY);
-                builder.setCell(wall, CellType.PASS);
-                visited.add(neighbor);
-                stack.push(neighbor);
+                if (size == stack.length) {
+                    stack = Arrays.copyOf(stack, (int) Math.min(nodes, (long) stack.length * 2));
+                }
+                stack[size++] = neighbor;
             }
         }
 
         return builder.build();
     }
+
+    /**
+     * Выбирает случайную перестановку направлений, расходуя случайные числа так же, как
+     * {@link Direction#getShuffledDirections(RandomGenerator)}.
+     *
+     * @param random источник случайных чисел генерации
+     * @return номер перестановки в {@link #PERMUTATIONS}
+     */
+    private static int nextPermutation(RandomGenerator random) {
+        return (random.nextInt(4) * 3 + random.nextInt(3)) * 2 + random.nextInt(2);
+    }
+
+    private static Direction[][] createPermutations() {
+        var permutations = new Direction[24][];
+        for (int first = 0; first < 4; first++) {
+            for (int second = 0; second < 3; second++) {
+                for (int third = 0; third < 2; third++) {
+                    Direction[] directions = Direction.getDirections();
+                    swap(directions, 3, first);
+                    swap(directions, 2, second);
+                    swap(directions, 1, third);
+                    permutations[(first * 3 + second) * 2 + third] = directions;
+                }
+            }
+        }
+
+        return permutations;
+    }
+
+    private static void swap(Direction[] directions, int i, int j) {
+        Direction temp = directions[i];
+        directions[i] = directions[j];
+        directions[j] = temp;
+    }
 }
@@ -0,0 +1,128 @@
+package academy.maze.generator;
+
+import static academy.maze.MazeConfig.BORDER_WIDTH;
+
+import academy.maze.grid.GridRowConsumer;
+import java.util.Arrays;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * Генератор лабиринта по алгоритму Эллера.
+ *
+ * <p>Лабиринт строится по одной строке клеток, при этом хранятся только множества клеток текущей строки:
+ *
+ * <ol>
+ *   <li>Соседние клетки строки из разных множеств случайно соединяются, их множества объединяются
+ *   <li>Из каждого множества случайно выбираются клетки, проход из которых ведет вниз; у каждого множества есть хотя
+ *       бы одна такая клетка
+ *   <li>Клетки следующей строки под проходами наследуют множество, остальные образуют новые множества
+ *   <li>В последней строке соединяются все соседние клетки из разных множеств
+ * </ol>
+ *
+ * <p>Результат - идеальный лабиринт. Готовые строки сетки сразу передаются получателю, поэтому лабиринт 1000 × 10M
+ * выводится с первой строки и в постоянной памяти.
+ *
+ * @implNote Сложность: O(width × height) по времени и O(width) по памяти. Множества строки хранятся в DSU на
+ *     {@code int[]} по позициям клеток строки.
+ */
+public class EllerGenerator extends AbstractStreamingGenerator {
+    @Override
+    public void generateRows(int width, int height, SplittableGenerator random, GridRowConsumer consumer) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Maze width and height must be bigger than zero");
+        }
+
+        int gridWidth = width + BORDER_WIDTH * 2;
+        int gridHeight = height + BORDER_WIDTH * 2;
+        int nodesX = (gridWidth - BORDER_WIDTH) / 2;
+        int nodesY = (gridHeight - BORDER_WIDTH) / 2;
+
+        var parent = new int[nodesX];
+        var roots = new int[nodesX];
+        var last = new int[nodesX];
+        var carried = new int[nodesX];
+        var joinedRight = new boolean[nodesX];
+        var joinedDown = new boolean[nodesX];
+        var hasDown = new boolean[nodesX];
+        var row = new long[(gridWidth + Long.SIZE - 1) / Long.SIZE];
+
+        for (int i = 0; i < nodesX; i++) {
+            parent[i] = i;
+        }
+
+        consumer.begin(gridWidth, gridHeight);
+        consumer.accept(0, row);
+
+        for (int nodeY = 0; nodeY < nodesY; nodeY++) {
+            boolean lastRow = nodeY == nodesY - 1;
+
+            for (int i = 0; i < nodesX - 1; i++) {
+                int left = find(parent, i);
+                int right = find(parent, i + 1);
+                joinedRight[i] = left != right && (lastRow || random.nextBoolean());
+                if (joinedRight[i]) {
+                    parent[right] = left;
+                }
+            }
+
+            for (int i = 0; i < nodesX; i++) {
+                roots[i] = find(parent, i);
+                last[roots[i]] = i;
+                hasDown[roots[i]] = false;
+                carried[roots[i]] = -1;
+            }
+            for (int i = 0; i < nodesX; i++) {
+                int root = roots[i];
+                joinedDown[i] = !lastRow && (random.nextBoolean() || last[root] == i && !hasDown[root]);
+                hasDown[root] |= joinedDown[i];
+            }
+
+            Arrays.fill(row, 0);
+            for (int i = 0; i < nodesX; i++) {
+                setPassable(row, i * 2 + 1);
+                if (joinedRight[i]) {
+                    setPassable(row, i * 2 + 2);
+                }
+            }
+            consumer.accept(nodeY * 2 + 1, row);
+
+            Arrays.fill(row, 0);
+            for (int i = 0; i < nodesX; i++) {
+                if (joinedDown[i]) {
+                    setPassable(row, i * 2 + 1);
+                    int root = roots[i];
+                    if (carried[root] < 0) {
+                        carried[root] = i;
+                    }
+                    parent[i] = carried[root];
+                } else {
+                    parent[i] = i;
+                }
+            }
+            consumer.accept(nodeY * 2 + 2, row);
+        }
+
+        Arrays.fill(row, 0);
+        for (int y = nodesY * 2 + 1; y < gridHeight; y++) {
+            consumer.accept(y, row);
+        }
+    }
+
+    private static int find(int[] parent, int i) {
+        int root = i;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        while (parent[i] != root) {
+            int next = parent[i];
+            parent[i] = root;
+            i = next;
+        }
+
+        return root;
+    }
+
+    private static void setPassable(long[] row, int x) {
+        row[x / Long.SIZE] |= 1L << x;
+    }
+}
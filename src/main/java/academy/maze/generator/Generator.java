@@ -1,8 +1,17 @@
 package academy.maze.generator;
 
 import academy.maze.dto.Maze;
+import academy.maze.grid.GridStorage;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator.SplittableGenerator;
 
-/** Генератор лабиринта */
+/**
+ * Генератор лабиринта.
+ *
+ * <p>Все случайные решения генератор принимает через переданный источник случайных чисел, поэтому одно и то же зерно
+ * дает один и тот же лабиринт, а параллельные генерации не разделяют общего состояния. Источник не потокобезопасен:
+ * каждый рабочий поток генерации получает собственный поток чисел через {@link SplittableGenerator#split()}.
+ */
 public interface Generator {
 
     /**
@@ -13,5 +22,32 @@ public interface Generator {
      * @return лабиринт
      * @throws IllegalArgumentException если невозможно сгенерировать лабиринт.
      */
-    Maze generate(int width, int height);
+    default Maze generate(int width, int height) {
+        return generate(width, height, GridStorage.HEAP);
+    }
+
+    /**
+     * Генерирует лабиринт со случайным зерном, размещая его сетку в заданном хранилище.
+     *
+     * @param width ширина лабиринта.
+     * @param height высота лабиринта.
+     * @param storage хранилище сетки лабиринта.
+     * @return лабиринт
+     * @throws IllegalArgumentException если невозможно сгенерировать лабиринт.
+     */
+    default Maze generate(int width, int height, GridStorage storage) {
+        return generate(width, height, storage, new SplittableRandom());
+    }
+
+    /**
+     * Генерирует лабиринт, размещая его сетку в заданном хранилище и используя заданный источник случайных чисел.
+     *
+     * @param width ширина лабиринта.
+     * @param height высота лабиринта.
+     * @param storage хранилище сетки лабиринта.
+     * @param random источник случайных чисел этой генерации.
+     * @return лабиринт
+     * @throws IllegalArgumentException если невозможно сгенерировать лабиринт.
+     */
+    Maze generate(int width, int height, GridStorage storage, SplittableGenerator random);
 }
@@ -8,10 +8,11 @@ import academy.maze.dto.CellType;
 import academy.maze.dto.Edge;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Point;
+import academy.maze.grid.GridStorage;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator.SplittableGenerator;
 
 /**
  * Генератор лабиринта с использованием алгоритма Крускала.
@@ -39,16 +40,16 @@ import java.util.Random;
  */
 public class KruskalGenerator extends AbstractGenerator {
     @Override
-    public Maze generate(int width, int height) {
-        var builder = new MazeBuilder(width, height);
-        var dsu = new DSU(builder.height * builder.width);
+    public Maze generate(int width, int height, GridStorage storage, SplittableGenerator random) {
+        var builder = new MazeBuilder(width, height, storage);
+        var dsu = new DSU((long) builder.height * builder.width, storage);
 
         List<Edge> edges = getEdges(builder.width, builder.height);
-        Collections.shuffle(edges, new Random());
+        Collections.shuffle(edges, random);
 
         for (Edge edge : edges) {
-            int idx1 = edge.first().y() * width + edge.first().x();
-            int idx2 = edge.second().y() * width + edge.second().x();
+            long idx1 = (long) edge.first().y() * width + edge.first().x();
+            long idx2 = (long) edge.second().y() * width + edge.second().x();
 
             if (!dsu.connected(idx1, idx2)) {
                 builder.setCell(edge.first(), CellType.PASS);
@@ -79,15 +80,15 @@ public class KruskalGenerator extends AbstractGenerator {
     private List<Edge> getEdges(int width, int height) {
         List<Edge> edges = new ArrayList<>();
 
-        for (int y = BORDER_WIDTH; y < height - 2; y += 2) {
-            for (int x = BORDER_WIDTH; x < width - 2; x += 2) {
+        for (int y = BORDER_WIDTH; y < height - BORDER_WIDTH; y += 2) {
+            for (int x = BORDER_WIDTH; x < width - BORDER_WIDTH; x += 2) {
                 Point current = new Point(x, y);
-                if (x < width) {
+                if (x + 2 < width - BORDER_WIDTH) {
                     Point mid = new Point(x + 1, y);
                     Point neighbor = new Point(x + 2, y);
                     edges.add(new Edge(current, mid, neighbor));
                 }
-                if (y < height) {
+                if (y + 2 < height - BORDER_WIDTH) {
                     Point neighbor = new Point(x, y + 2);
                     Point mid = new Point(x, y + 1);
                     edges.add(new Edge(current, mid, neighbor));
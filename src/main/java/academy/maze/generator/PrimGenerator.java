@@ -1,84 +1,128 @@
 package academy.maze.generator;
 
+import static academy.maze.MazeConfig.BORDER_WIDTH;
+
 import academy.maze.MazeBuilder;
 import academy.maze.dto.CellType;
 import academy.maze.dto.Direction;
 import academy.maze.dto.Maze;
-import academy.maze.dto.Node;
 import academy.maze.dto.Point;
-import java.util.HashSet;
-import java.util.PriorityQueue;
+import academy.maze.grid.GridStorage;
+import java.util.Arrays;
+import java.util.random.RandomGenerator.SplittableGenerator;
 
 /**
- * Генератор лабиринта с использованием алгоритма Прима.
+ * Генератор лабиринта с использованием рандомизированного алгоритма Прима.
  *
- * <p>Алгоритм Прима создает минимальное остовное дерево для графа, где:
+ * <p>Алгоритм Прима создает случайное остовное дерево для графа, где:
  *
  * <ul>
- *   <li>Узлы - ячейки лабиринта с четными координатами
- *   <li>Ребра - возможные соединения между узлами со случайным весом
+ *   <li>Узлы - ячейки лабиринта с нечетными координатами
+ *   <li>Ребра - возможные соединения между соседними узлами
  * </ul>
  *
  * <p>Алгоритм работает следующим образом:
  *
  * <ol>
- *   <li>Выбирается случайная стартовая точка и добавляется в приоритетную очередь
- *   <li>Пока очередь не пуста:
+ *   <li>Выбирается случайная стартовая точка, ее соседи образуют границу дерева
+ *   <li>Пока граница не пуста:
  *       <ul>
- *         <li>Извлекается узел с наивысшим приоритетом (случайный вес)
- *         <li>Если узел уже посещен - пропускаем
- *         <li>Для каждого соседа (через 2 шага):
- *             <ul>
- *               <li>Если сосед валиден и не посещен - добавляем в очередь со случайным весом
- *               <li>Запоминаем родителя для соседа
- *             </ul>
- *         <li>Соединяем текущий узел с родителем через промежуточную стену
- *         <li>Отмечаем текущий узел как посещенный
+ *         <li>Из границы извлекается случайный узел
+ *         <li>Узел соединяется проходом со случайным соседом, уже входящим в дерево
+ *         <li>Непосещенные соседи узла, которых еще нет на границе, добавляются на границу
  *       </ul>
  * </ol>
  *
- * <p>Результат - лабиринт с хорошим балансом между длинными коридорами и тупиками.
+ * <p>Результат - лабиринт с большим количеством коротких тупиков и ветвлений.
  *
- * @implNote Сложность: O(N log N), где N - количество узлов. Использование случайных весов обеспечивает равномерное
- *     распределение путей. Массив {@code parent} используется для отслеживания связей между узлами.
+ * @implNote Сложность: O(width × height). Случайные веса ребер нужны только для выбора случайного узла границы, поэтому
+ *     вместо приоритетной очереди граница хранится в массиве {@code int[]} плоских индексов узлов: случайный элемент
+ *     извлекается за O(1) заменой последним. Посещенные узлы и узлы на границе - битовые множества {@code long[]}, так
+ *     что каждый узел попадает на границу не более одного раза и на каждую клетку не создается ни одного объекта.
  */
 public class PrimGenerator extends AbstractGenerator {
-    @Override
-    public Maze generate(int width, int height) {
-        var priorityQueue = new PriorityQueue<Node>();
-        var visited = new HashSet<Point>();
+    /** Максимальное количество узлов, которое помещается в плоский {@code int}-индекс и Java-массив */
+    private static final long MAX_NODES = Integer.MAX_VALUE - 8;
 
-        var builder = new MazeBuilder(width, height);
-        Point start = getRandomStartPoint(width, height);
+    private static final int INITIAL_FRONTIER_CAPACITY = 1024;
 
-        var parent = new Point[builder.height][builder.width];
-        priorityQueue.add(new Node(start, RANDOM.nextInt()));
+    private static final Direction[] DIRECTIONS = Direction.getDirections();
 
-        while (!priorityQueue.isEmpty()) {
-            Node node = priorityQueue.poll();
-            Point current = node.point();
+    @Override
+    public Maze generate(int width, int height, GridStorage storage, SplittableGenerator random) {
+        var builder = new MazeBuilder(width, height, storage);
+        int nodesX = (builder.width - BORDER_WIDTH) / 2;
+        int nodesY = (builder.height - BORDER_WIDTH) / 2;
+        long nodes = (long) nodesX * nodesY;
+        if (nodes > MAX_NODES) {
+            throw new IllegalArgumentException("Maze " + width + "x" + height + " is too large for Prim generator");
+        }
 
-            if (visited.contains(current)) continue;
+        var visited = new long[(int) ((nodes + 63) >>> 6)];
+        var inFrontier = new long[visited.length];
+        var frontier = new int[(int) Math.min(nodes, INITIAL_FRONTIER_CAPACITY)];
+        var connections = new Direction[DIRECTIONS.length];
 
-            for (Direction direction : Direction.getDirections()) {
-                var neighbor = new Point(current.x() + direction.deltaX * 2, current.y() + direction.deltaY * 2);
+        Point start = getRandomStartPoint(width, height, random);
+        int startNode = start.y() / 2 * nodesX + start.x() / 2;
+        builder.setCell(start, CellType.PASS);
+        visited[startNode >>> 6] |= 1L << startNode;
+        int size = expand(startNode, nodesX, nodesY, visited, inFrontier, frontier, 0);
 
-                if (!builder.isInBounds(neighbor) || visited.contains(neighbor)) continue;
+        while (size > 0) {
+            int i = random.nextInt(size);
+            int current = frontier[i];
+            frontier[i] = frontier[--size];
+            int nodeX = current % nodesX;
+            int nodeY = current / nodesX;
 
-                priorityQueue.add(new Node(neighbor, RANDOM.nextInt()));
-                parent[neighbor.y()][neighbor.x()] = current;
-            }
+            int connectionCount = 0;
+            for (Direction direction : DIRECTIONS) {
+                int neighborX = nodeX + direction.deltaX;
+                int neighborY = nodeY + direction.deltaY;
+                if (neighborX < 0 || neighborX >= nodesX || neighborY < 0 || neighborY >= nodesY) continue;
 
-            Point prev = parent[current.y()][current.x()];
-            if (prev != null) {
-                Point mid = new Point((current.x() + prev.x()) / 2, (current.y() + prev.y()) / 2);
-                builder.setCell(mid, CellType.PASS);
+                int neighbor = neighborY * nodesX + neighborX;
+                if ((visited[neighbor >>> 6] & 1L << neighbor) != 0) {
+                    connections[connectionCount++] = direction;
+                }
             }
 
-            builder.setCell(current, CellType.PASS);
-            visited.add(current);
+            Direction connection = connections[random.nextInt(connectionCount)];
+            builder.setCell(nodeX * 2 + 1, nodeY * 2 + 1, CellType.PASS);
+            builder.setCell(nodeX * 2 + 1 + connection.deltaX, nodeY * 2 + 1 + connection.deltaY, CellType.PASS);
+            visited[current >>> 6] |= 1L << current;
+
+            if (frontier.length < nodes && frontier.length - size < DIRECTIONS.length) {
+                frontier = Arrays.copyOf(frontier, (int) Math.min(nodes, (long) frontier.length * 2));
+            }
+            size = expand(current, nodesX, nodesY, visited, inFrontier, frontier, size);
         }
 
         return builder.build();
     }
+
+    /**
+     * Добавляет на границу непосещенных соседей узла, которых на ней еще нет.
+     *
+     * @return новый размер границы
+     */
+    private static int expand(
+            int node, int nodesX, int nodesY, long[] visited, long[] inFrontier, int[] frontier, int size) {
+        int nodeX = node % nodesX;
+        int nodeY = node / nodesX;
+        for (Direction direction : DIRECTIONS) {
+            int neighborX = nodeX + direction.deltaX;
+            int neighborY = nodeY + direction.deltaY;
+            if (neighborX < 0 || neighborX >= nodesX || neighborY < 0 || neighborY >= nodesY) continue;
+
+            int neighbor = neighborY * nodesX + neighborX;
+            if (((visited[neighbor >>> 6] | inFrontier[neighbor >>> 6]) & 1L << neighbor) != 0) continue;
+
+            inFrontier[neighbor >>> 6] |= 1L << neighbor;
+            frontier[size++] = neighbor;
+        }
+
+        return size;
+    }
 }
@@ -0,0 +1,152 @@
+package academy.maze.generator;
+
+import static academy.maze.MazeConfig.BORDER_WIDTH;
+
+import academy.maze.MazeBuilder;
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.grid.GridStorage;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * Генератор лабиринта с использованием алгоритма рекурсивного деления.
+ *
+ * <p>Алгоритм работает с прямоугольными камерами узлов (клеток с нечетными координатами):
+ *
+ * <ol>
+ *   <li>Камера делится стеной поперек более длинной стороны (для квадратной - в случайном направлении) в случайном
+ *       месте
+ *   <li>В стене пробивается один проход в случайном месте
+ *   <li>Обе половины делятся дальше независимо
+ *   <li>Камера шириной или высотой в один узел остается коридором
+ * </ol>
+ *
+ * <p>Лабиринт изначально заполнен стенами, поэтому стены деления не пишутся: пробиваются только проходы в них и
+ * коридоры. Результат - идеальный лабиринт с длинными прямыми стенами.
+ *
+ * <p>Половины камеры не зависят друг от друга, поэтому деление выполняется как {@link RecursiveAction}: камеры больше
+ * порога порождают параллельные задачи, меньшие делятся в текущем потоке. Каждая половина получает собственный поток
+ * случайных чисел через {@link SplittableGenerator#split()} до запуска задач, поэтому результат при заданном зерне не
+ * зависит от планирования.
+ *
+ * @implNote Сложность: O(width × height). Не использует ни множества посещенных ячеек, ни очереди: дополнительная
+ *     память - только стек рекурсии глубины O(log(width × height)) в среднем. Соседние камеры пишут в общие слова
+ *     упакованной сетки, поэтому ячейки записываются через {@link MazeBuilder#setCellAtomically}.
+ */
+public class RecursiveDivisionGenerator extends AbstractGenerator {
+    /** Минимальное количество узлов камеры, при котором ее половины делятся параллельно */
+    private static final int FORK_THRESHOLD = 1 << 12;
+
+    private final int forkThreshold;
+    private final ForkJoinPool pool;
+
+    /** Создает генератор, использующий общий пул потоков. */
+    public RecursiveDivisionGenerator() {
+        this(FORK_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Создает генератор, выполняющий деление в указанном пуле потоков.
+     *
+     * @param forkThreshold минимальное количество узлов камеры, при котором ее половины делятся параллельно
+     * @param pool пул потоков
+     * @throws IllegalArgumentException если forkThreshold < 1
+     */
+    public RecursiveDivisionGenerator(int forkThreshold, ForkJoinPool pool) {
+        if (forkThreshold < 1) {
+            throw new IllegalArgumentException("Fork threshold must be bigger than zero");
+        }
+
+        this.forkThreshold = forkThreshold;
+        this.pool = pool;
+    }
+
+    @Override
+    public Maze generate(int width, int height, GridStorage storage, SplittableGenerator random) {
+        var builder = new MazeBuilder(width, height, storage);
+        int nodesX = (builder.width - BORDER_WIDTH) / 2;
+        int nodesY = (builder.height - BORDER_WIDTH) / 2;
+
+        pool.invoke(new Chamber(builder, 0, 0, nodesX, nodesY, random));
+        return builder.build();
+    }
+
+    /** Камера узлов {@code [x, x + width) × [y, y + height)}. */
+    private final class Chamber extends RecursiveAction {
+        private final MazeBuilder builder;
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+        private final SplittableGenerator random;
+
+        Chamber(MazeBuilder builder, int x, int y, int width, int height, SplittableGenerator random) {
+            this.builder = builder;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            divide(x, y, width, height, random);
+        }
+
+        private void divide(int x, int y, int width, int height, SplittableGenerator random) {
+            if (width == 1 || height == 1) {
+                carveCorridor(x, y, width, height);
+                return;
+            }
+
+            boolean horizontal = height > width || height == width && random.nextBoolean();
+            int firstWidth = width;
+            int firstHeight = height;
+            int secondX = x;
+            int secondY = y;
+            if (horizontal) {
+                firstHeight = random.nextInt(1, height);
+                secondY = y + firstHeight;
+                carve(x + random.nextInt(width), secondY, 0, -1);
+            } else {
+                firstWidth = random.nextInt(1, width);
+                secondX = x + firstWidth;
+                carve(secondX, y + random.nextInt(height), -1, 0);
+            }
+            int secondWidth = width - (secondX - x);
+            int secondHeight = height - (secondY - y);
+
+            if ((long) width * height >= forkThreshold) {
+                invokeAll(
+                        new Chamber(builder, x, y, firstWidth, firstHeight, random.split()),
+                        new Chamber(builder, secondX, secondY, secondWidth, secondHeight, random.split()));
+            } else {
+                divide(x, y, firstWidth, firstHeight, random);
+                divide(secondX, secondY, secondWidth, secondHeight, random);
+            }
+        }
+
+        /** Открывает узлы коридора шириной или высотой в один узел и проходы между ними. */
+        private void carveCorridor(int x, int y, int width, int height) {
+            for (int nodeY = y; nodeY < y + height; nodeY++) {
+                for (int nodeX = x; nodeX < x + width; nodeX++) {
+                    carve(nodeX, nodeY, 0, 0);
+                    if (nodeX > x) {
+                        carve(nodeX, nodeY, -1, 0);
+                    }
+                    if (nodeY > y) {
+                        carve(nodeX, nodeY, 0, -1);
+                    }
+                }
+            }
+        }
+
+        /** Делает проходимой ячейку узла или, при ненулевом смещении, ячейку между узлом и его соседом. */
+        private void carve(int nodeX, int nodeY, int deltaX, int deltaY) {
+            builder.setCellAtomically(nodeX * 2 + 1 + deltaX, nodeY * 2 + 1 + deltaY, CellType.PASS);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package academy.maze.generator;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Генератор лабиринта с использованием алгоритма Sidewinder.
+ *
+ * <p>Верхняя строка - сплошной коридор. Каждая следующая строка делится на случайные отрезки:
+ *
+ * <ol>
+ *   <li>Каждый узел случайно решает, продолжить отрезок проходом на восток или закрыть его; последний узел строки
+ *       всегда закрывает отрезок
+ *   <li>Из каждого отрезка ровно один узел пробивает проход на север
+ * </ol>
+ *
+ * <p>Результат - идеальный лабиринт со смещением: верхняя строка - сплошной коридор, а путь на север из любого узла
+ * не петляет. Алгоритм предназначен для быстрой генерации огромных лабиринтов, например для нагрузочных тестов.
+ *
+ * @implNote Отрезки обрабатываются словами без перебора узлов. Узел прохода на север - первый узел отрезка из
+ *     случайной маски кандидатов, к которой добавлены закрывающие узлы, чтобы кандидат был в каждом отрезке. Первые
+ *     кандидаты всех отрезков находятся одним многословным вычитанием: {@code candidates & ~(candidates - starts)}, где
+ *     {@code starts} - первые узлы отрезков. Заем при вычитании не выходит за отрезок, так как в каждом отрезке есть
+ *     кандидат.
+ */
+public class SidewinderGenerator extends AbstractRowCarvingGenerator {
+    @Override
+    protected void carveRow(long[] nodes, int lastNode, long[] east, long[] north, RandomGenerator random) {
+        long startCarry = 1L << 1;
+        boolean borrow = false;
+        for (int word = 0; word < nodes.length; word++) {
+            long closing = nodes[word] & random.nextLong();
+            if (word == lastNode / Long.SIZE) {
+                closing |= 1L << lastNode;
+            }
+            east[word] = nodes[word] & ~closing;
+
+            long starts = (closing << 2 | startCarry) & nodes[word];
+            startCarry = closing >>> Long.SIZE - 2;
+
+            long candidates = nodes[word] & random.nextLong() | closing;
+            long difference = candidates - starts - (borrow ? 1 : 0);
+            borrow = Long.compareUnsigned(candidates, starts) < 0 || borrow && candidates == starts;
+            north[word] = candidates & ~difference;
+        }
+    }
+}
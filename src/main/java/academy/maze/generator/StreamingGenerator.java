@@ -0,0 +1,21 @@
+package academy.maze.generator;
+
+import academy.maze.grid.GridRowConsumer;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * Генератор, выдающий лабиринт по одной строке сетки. Память генератора зависит только от ширины лабиринта, поэтому
+ * высота не ограничена, а вывод начинается сразу после генерации первых строк.
+ */
+public interface StreamingGenerator extends Generator {
+    /**
+     * Генерирует лабиринт, передавая строки сетки с границами получателю по порядку сверху вниз.
+     *
+     * @param width ширина лабиринта.
+     * @param height высота лабиринта.
+     * @param random источник случайных чисел этой генерации.
+     * @param consumer получатель строк.
+     * @throws IllegalArgumentException если невозможно сгенерировать лабиринт.
+     */
+    void generateRows(int width, int height, SplittableGenerator random, GridRowConsumer consumer);
+}
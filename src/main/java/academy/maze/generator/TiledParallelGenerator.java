@@ -0,0 +1,231 @@
+package academy.maze.generator;
+
+import static academy.maze.MazeConfig.BORDER_WIDTH;
+
+import academy.maze.DSU;
+import academy.maze.MazeBuilder;
+import academy.maze.MazeConfig;
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.grid.GridStorage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * Параллельный генератор, разбивающий лабиринт на прямоугольные плитки.
+ *
+ * <p>Алгоритм работает следующим образом:
+ *
+ * <ol>
+ *   <li>Узлы лабиринта (клетки с нечетными координатами) делятся на плитки примерно {@code tileSize × tileSize}
+ *       ячеек
+ *   <li>Каждая плитка независимо генерируется вложенным генератором в {@link ForkJoinPool} и копируется в общую сетку
+ *   <li>Над графом плиток строится случайное остовное дерево; для каждого его ребра в стене между плитками пробивается
+ *       один проход в случайном месте
+ * </ol>
+ *
+ * <p>Если вложенный генератор строит идеальные лабиринты, результат тоже идеален: плитки - деревья, соединенные ровно
+ * одним проходом по ребрам дерева. Каждая плитка получает собственный поток случайных чисел через
+ * {@link SplittableGenerator#split()} в порядке номеров плиток, поэтому результат при заданном зерне не зависит от
+ * планирования потоков.
+ *
+ * @implNote Плитки копируются полосами по строке плиток. Полосы разделены строкой стен не короче 64 ячеек, поэтому не
+ *     разделяют слов упакованной сетки и пишутся параллельно без синхронизации. Хранилище {@link GridStorage#TILED}
+ *     создает плитки при записи, поэтому для него копирование выполняется под блокировкой, а параллельной остается
+ *     генерация.
+ */
+public class TiledParallelGenerator implements Generator {
+    private final Generator tileGenerator;
+    private final int tileNodes;
+    private final ForkJoinPool pool;
+
+    /**
+     * Создает параллельный генератор с размером плитки из конфигурации и общим пулом потоков.
+     *
+     * @param tileGenerator генератор отдельных плиток
+     */
+    public TiledParallelGenerator(Generator tileGenerator) {
+        this(tileGenerator, MazeConfig.PARALLEL_TILE_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Создает параллельный генератор.
+     *
+     * @param tileGenerator генератор отдельных плиток
+     * @param tileSize сторона плитки в ячейках
+     * @param pool пул потоков для генерации плиток
+     * @throws IllegalArgumentException если tileSize < 1
+     */
+    public TiledParallelGenerator(Generator tileGenerator, int tileSize, ForkJoinPool pool) {
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Tile size must be bigger than zero");
+        }
+
+        this.tileGenerator = tileGenerator;
+        this.tileNodes = (tileSize + 1) / 2;
+        this.pool = pool;
+    }
+
+    @Override
+    public Maze generate(int width, int height, GridStorage storage, SplittableGenerator random) {
+        var builder = new MazeBuilder(width, height, storage);
+        var layout = new Layout(
+                split((builder.width - BORDER_WIDTH) / 2, tileNodes),
+                split((builder.height - BORDER_WIDTH) / 2, tileNodes));
+
+        var randoms = new SplittableGenerator[layout.tileCount()];
+        for (int tile = 0; tile < randoms.length; tile++) {
+            randoms[tile] = random.split();
+        }
+
+        boolean concurrentWrites = storage != GridStorage.TILED && builder.width >= Long.SIZE;
+        var bands = new ArrayList<BandTask>();
+        for (int tileY = 0; tileY < layout.tilesY(); tileY++) {
+            bands.add(new BandTask(builder, layout, tileY, randoms, concurrentWrites));
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(bands)));
+
+        stitch(builder, layout, random);
+        return builder.build();
+    }
+
+    /**
+     * Делит отрезок узлов на части не меньше {@code tileNodes}; последняя часть забирает остаток.
+     *
+     * @param nodes количество узлов
+     * @param tileNodes желаемый размер части
+     * @return начала частей и, последним элементом, общее количество узлов
+     */
+    private static int[] split(int nodes, int tileNodes) {
+        int parts = Math.max(1, nodes / tileNodes);
+        var bounds = new int[parts + 1];
+        for (int part = 0; part < parts; part++) {
+            bounds[part] = part * tileNodes;
+        }
+        bounds[parts] = nodes;
+
+        return bounds;
+    }
+
+    /** Соединяет плитки проходами по ребрам случайного остовного дерева графа плиток. */
+    private static void stitch(MazeBuilder builder, Layout layout, SplittableGenerator random) {
+        var edges = new int[layout.tileCount() * 2];
+        int edgeCount = 0;
+        for (int tile = 0; tile < layout.tileCount(); tile++) {
+            if (tile % layout.tilesX() + 1 < layout.tilesX()) {
+                edges[edgeCount++] = tile * 2;
+            }
+            if (tile / layout.tilesX() + 1 < layout.tilesY()) {
+                edges[edgeCount++] = tile * 2 + 1;
+            }
+        }
+
+        for (int i = edgeCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = edges[i];
+            edges[i] = edges[j];
+            edges[j] = temp;
+        }
+
+        var dsu = new DSU(layout.tileCount());
+        for (int i = 0; i < edgeCount; i++) {
+            int tile = edges[i] / 2;
+            boolean vertical = edges[i] % 2 == 1;
+            int tileX = tile % layout.tilesX();
+            int tileY = tile / layout.tilesX();
+            int neighbor = vertical ? tile + layout.tilesX() : tile + 1;
+            if (dsu.connected(tile, neighbor)) continue;
+
+            dsu.union(tile, neighbor);
+            if (vertical) {
+                int nodeX = random.nextInt(layout.nodesX()[tileX], layout.nodesX()[tileX + 1]);
+                builder.setCell(nodeX * 2 + 1, layout.nodesY()[tileY + 1] * 2, CellType.PASS);
+            } else {
+                int nodeY = random.nextInt(layout.nodesY()[tileY], layout.nodesY()[tileY + 1]);
+                builder.setCell(layout.nodesX()[tileX + 1] * 2, nodeY * 2 + 1, CellType.PASS);
+            }
+        }
+    }
+
+    /**
+     * Разбиение узлов лабиринта на плитки.
+     *
+     * @param nodesX начала столбцов плиток в узлах и, последним элементом, ширина лабиринта в узлах
+     * @param nodesY начала строк плиток в узлах и, последним элементом, высота лабиринта в узлах
+     */
+    private record Layout(int[] nodesX, int[] nodesY) {
+        int tilesX() {
+            return nodesX.length - 1;
+        }
+
+        int tilesY() {
+            return nodesY.length - 1;
+        }
+
+        int tileCount() {
+            return tilesX() * tilesY();
+        }
+    }
+
+    /** Генерирует плитки одной строки и копирует их в общую сетку. */
+    private final class BandTask extends RecursiveAction {
+        private final MazeBuilder builder;
+        private final Layout layout;
+        private final int tileY;
+        private final SplittableGenerator[] randoms;
+        private final boolean concurrentWrites;
+
+        BandTask(
+                MazeBuilder builder,
+                Layout layout,
+                int tileY,
+                SplittableGenerator[] randoms,
+                boolean concurrentWrites) {
+            this.builder = builder;
+            this.layout = layout;
+            this.tileY = tileY;
+            this.randoms = randoms;
+            this.concurrentWrites = concurrentWrites;
+        }
+
+        @Override
+        protected void compute() {
+            int nodeY = layout.nodesY()[tileY];
+            int tileHeight = layout.nodesY()[tileY + 1] - nodeY;
+
+            List<ForkJoinTask<Maze>> tiles = new ArrayList<>();
+            for (int tileX = 0; tileX < layout.tilesX(); tileX++) {
+                int tileWidth = layout.nodesX()[tileX + 1] - layout.nodesX()[tileX];
+                var tileRandom = randoms[tileY * layout.tilesX() + tileX];
+                tiles.add(ForkJoinTask.adapt(() ->
+                        tileGenerator.generate(tileWidth * 2 - 1, tileHeight * 2 - 1, GridStorage.HEAP, tileRandom)));
+            }
+            invokeAll(tiles);
+
+            for (int tileX = 0; tileX < layout.tilesX(); tileX++) {
+                Maze tile = tiles.get(tileX).join();
+                if (concurrentWrites) {
+                    copy(tile, layout.nodesX()[tileX] * 2, nodeY * 2);
+                } else {
+                    synchronized (builder) {
+                        copy(tile, layout.nodesX()[tileX] * 2, nodeY * 2);
+                    }
+                }
+            }
+        }
+
+        private void copy(Maze tile, int offsetX, int offsetY) {
+            for (int y = 1; y < tile.height() - BORDER_WIDTH; y++) {
+                for (int x = 1; x < tile.width() - BORDER_WIDTH; x++) {
+                    if (!tile.cells().isWall(x, y)) {
+                        builder.setCell(offsetX + x, offsetY + y, CellType.PASS);
+                    }
+                }
+            }
+        }
+    }
+}
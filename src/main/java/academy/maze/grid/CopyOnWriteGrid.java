@@ -0,0 +1,134 @@
+package academy.maze.grid;
+
+import academy.maze.dto.CellType;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Редактируемая сетка поверх неизменяемой базовой сетки с копированием при записи. Базовая сетка не изменяется и
+ * продолжает разделяться с другими потоками; при первой записи в строку копируется только эта строка, по байту на
+ * ячейку. Правка нескольких ячеек лабиринта 30k × 30k стоит десятков килобайт вместо копии всей сетки.
+ *
+ * <p>{@link #snapshot()} копирует только таблицу строк, после чего строки разделяются со снимком и копируются повторно
+ * при следующей записи. Редактирование снимка другого {@code CopyOnWriteGrid} не наращивает цепочку сеток: новая сетка
+ * ссылается на ту же базовую сетку и разделяет уже скопированные строки.
+ *
+ * @implNote Сама редактируемая сетка не потокобезопасна; снимки можно читать из любого числа потоков.
+ */
+public final class CopyOnWriteGrid implements MutableMazeGrid {
+    private static final CellType[] TYPES = CellType.values();
+
+    /** Неизменяемая сетка с исходными ячейками */
+    private final MazeGrid base;
+
+    /** Скопированные строки по номеру, коды {@link CellType#ordinal()}. {@code null} - строка не изменялась */
+    private final byte[][] rows;
+
+    /** Принадлежит ли скопированная строка только этой сетке. {@code null} для неизменяемого снимка */
+    private final boolean[] owned;
+
+    /**
+     * Создает редактируемую сетку поверх указанной. Изменяемая сетка предварительно заменяется своим снимком, поэтому
+     * ее дальнейшие изменения не видны через новую сетку.
+     *
+     * @param base исходная сетка
+     */
+    public CopyOnWriteGrid(MazeGrid base) {
+        if (base instanceof MutableMazeGrid mutable) {
+            base = mutable.snapshot();
+        }
+
+        if (base instanceof CopyOnWriteGrid snapshot) {
+            this.base = snapshot.base;
+            this.rows = snapshot.rows.clone();
+        } else {
+            this.base = base;
+            this.rows = new byte[base.height()][];
+        }
+        this.owned = new boolean[rows.length];
+    }
+
+    private CopyOnWriteGrid(MazeGrid base, byte[][] rows) {
+        this.base = base;
+        this.rows = rows;
+        this.owned = null;
+    }
+
+    @Override
+    public int width() {
+        return base.width();
+    }
+
+    @Override
+    public int height() {
+        return base.height();
+    }
+
+    @Override
+    public GridStorage storage() {
+        return base.storage();
+    }
+
+    @Override
+    public CellType get(int x, int y) {
+        byte[] row = rows[Objects.checkIndex(y, rows.length)];
+        return row == null ? base.get(x, y) : TYPES[row[x]];
+    }
+
+    @Override
+    public boolean isWall(int x, int y) {
+        byte[] row = rows[Objects.checkIndex(y, rows.length)];
+        return row == null ? base.isWall(x, y) : row[x] == CellType.WALL.ordinal();
+    }
+
+    @Override
+    public void set(int x, int y, CellType type) {
+        if (owned == null) {
+            throw new IllegalStateException("Maze grid snapshot is immutable");
+        }
+        Objects.checkIndex(x, width());
+
+        byte[] row = rows[Objects.checkIndex(y, rows.length)];
+        if (!owned[y]) {
+            row = row == null ? copyBaseRow(y) : row.clone();
+            rows[y] = row;
+            owned[y] = true;
+        }
+        row[x] = (byte) type.ordinal();
+    }
+
+    @Override
+    public MazeGrid snapshot() {
+        if (owned == null) {
+            return this;
+        }
+
+        Arrays.fill(owned, false);
+        return new CopyOnWriteGrid(base, rows.clone());
+    }
+
+    /**
+     * Возвращает количество строк, скопированных из базовой сетки.
+     *
+     * @return количество измененных строк
+     */
+    public int modifiedRows() {
+        int count = 0;
+        for (byte[] row : rows) {
+            if (row != null) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private byte[] copyBaseRow(int y) {
+        var row = new byte[width()];
+        for (int x = 0; x < row.length; x++) {
+            row[x] = (byte) base.get(x, y).ordinal();
+        }
+
+        return row;
+    }
+}
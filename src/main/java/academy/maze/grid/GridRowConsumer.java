@@ -0,0 +1,24 @@
+package academy.maze.grid;
+
+/**
+ * Получатель сетки лабиринта, выдаваемой по одной строке. Позволяет обрабатывать лабиринт, не храня его целиком:
+ * строки приходят по порядку сверху вниз и после обработки могут быть забыты.
+ */
+public interface GridRowConsumer {
+    /**
+     * Вызывается один раз перед первой строкой.
+     *
+     * @param width ширина сетки с границами
+     * @param height высота сетки с границами
+     */
+    void begin(int width, int height);
+
+    /**
+     * Принимает очередную строку сетки.
+     *
+     * @param y номер строки
+     * @param passable битовая строка: бит {@code x} слова {@code x / 64} установлен, если ячейка проходима. Массив
+     *     переиспользуется генератором и действителен только во время вызова
+     */
+    void accept(int y, long[] passable);
+}
@@ -0,0 +1,75 @@
+package academy.maze.grid;
+
+import static academy.maze.MazeConfig.TILE_MAX_RESIDENT;
+import static academy.maze.MazeConfig.TILE_SIZE;
+
+/**
+ * Способ хранения данных лабиринта. Определяет, где размещаются сетка ячеек и вспомогательные массивы алгоритмов.
+ *
+ * <ul>
+ *   <li>{@code HEAP} - массивы {@code long[]} в куче, до {@code 2^37} однобитных ячеек
+ *   <li>{@code OFF_HEAP} - сегменты памяти вне кучи (FFM API) с 64-битной адресацией без нагрузки на сборщик мусора
+ *   <li>{@code TILED} - плитки {@link academy.maze.MazeConfig#TILE_SIZE} × {@code TILE_SIZE} в куче, выделяемые при
+ *       первой записи и вытесняемые во временный файл сверх {@link academy.maze.MazeConfig#TILE_MAX_RESIDENT}
+ * </ul>
+ */
+public enum GridStorage {
+    HEAP {
+        @Override
+        public PackedArray newArray(long size, int bitsPerValue) {
+            return new HeapPackedArray(size, bitsPerValue);
+        }
+    },
+    OFF_HEAP {
+        @Override
+        public PackedArray newArray(long size, int bitsPerValue) {
+            return new OffHeapPackedArray(size, bitsPerValue);
+        }
+    },
+    TILED {
+        @Override
+        public PackedArray newArray(long size, int bitsPerValue) {
+            return new TiledPackedArray(size, bitsPerValue, TILE_SIZE, TILE_SIZE, TILE_MAX_RESIDENT);
+        }
+
+        @Override
+        public PackedArray newCellArray(int width, int height, int bitsPerValue) {
+            return new TiledPackedArray((long) width * height, bitsPerValue, width, TILE_SIZE, TILE_MAX_RESIDENT);
+        }
+    };
+
+    /**
+     * Создает заполненный нулями массив упакованных значений.
+     *
+     * @param size количество элементов
+     * @param bitsPerValue разрядность элемента: степень двойки от 1 до 64
+     * @return новый массив
+     * @throws IllegalArgumentException если массив не может быть создан в этом хранилище
+     */
+    public abstract PackedArray newArray(long size, int bitsPerValue);
+
+    /**
+     * Создает заполненный нулями массив значений по одному на ячейку сетки. Элемент ячейки {@code (x, y)} имеет индекс
+     * {@code y * width + x}; хранилище может использовать форму сетки для размещения соседних ячеек рядом.
+     *
+     * @param width ширина сетки
+     * @param height высота сетки
+     * @param bitsPerValue разрядность элемента: степень двойки от 1 до 64
+     * @return новый массив размером {@code width * height}
+     * @throws IllegalArgumentException если массив не может быть создан в этом хранилище
+     */
+    public PackedArray newCellArray(int width, int height, int bitsPerValue) {
+        return newArray((long) width * height, bitsPerValue);
+    }
+
+    /**
+     * Создает сетку лабиринта, заполненную стенами.
+     *
+     * @param width ширина сетки
+     * @param height высота сетки
+     * @return новая сетка
+     */
+    public MutableMazeGrid newGrid(int width, int height) {
+        return new PackedGrid(width, height, this);
+    }
+}
@@ -0,0 +1,59 @@
+package academy.maze.grid;
+
+import java.util.Objects;
+
+/** Реализация {@link PackedArray} поверх {@code long[]} в куче. Ограничена {@code 2^31} словами. */
+final class HeapPackedArray implements PackedArray {
+    private final long size;
+    private final int bitsShift;
+    private final long mask;
+    private final long[] words;
+
+    HeapPackedArray(long size, int bitsPerValue) {
+        this.size = size;
+        this.bitsShift = Integer.numberOfTrailingZeros(bitsPerValue);
+        this.mask = PackedArrays.mask(bitsPerValue);
+
+        long words = PackedArrays.words(size, bitsPerValue);
+        if (words > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Array of " + size + " values does not fit into heap storage");
+        }
+        this.words = new long[(int) words];
+    }
+
+    private HeapPackedArray(HeapPackedArray source) {
+        this.size = source.size;
+        this.bitsShift = source.bitsShift;
+        this.mask = source.mask;
+        this.words = source.words.clone();
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public long get(long index) {
+        long bit = Objects.checkIndex(index, size) << bitsShift;
+        return words[(int) (bit >>> 6)] >>> bit & mask;
+    }
+
+    @Override
+    public void set(long index, long value) {
+        long bit = Objects.checkIndex(index, size) << bitsShift;
+        int word = (int) (bit >>> 6);
+        words[word] = words[word] & ~(mask << bit) | (value & mask) << bit;
+    }
+
+    @Override
+    public void setAtomically(long index, long value) {
+        long bit = Objects.checkIndex(index, size) << bitsShift;
+        PackedArrays.setBitsAtomically(words, (int) (bit >>> 6), mask << bit, (value & mask) << bit);
+    }
+
+    @Override
+    public PackedArray copy() {
+        return new HeapPackedArray(this);
+    }
+}
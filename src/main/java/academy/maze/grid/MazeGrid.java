@@ -0,0 +1,62 @@
+package academy.maze.grid;
+
+import academy.maze.dto.CellType;
+
+/**
+ * Сетка ячеек лабиринта, доступная только для чтения. Отделяет способ хранения ячеек от алгоритмов решения и отрисовки:
+ * все они читают ячейки только через этот интерфейс. Изменяемая сетка описывается {@link MutableMazeGrid}.
+ *
+ * <p>Координаты: {@code x} - столбец, {@code y} - строка. Обращение к ячейке вне сетки приводит к
+ * {@link IndexOutOfBoundsException}.
+ */
+public interface MazeGrid {
+    /**
+     * Возвращает ширину сетки.
+     *
+     * @return количество столбцов
+     */
+    int width();
+
+    /**
+     * Возвращает высоту сетки.
+     *
+     * @return количество строк
+     */
+    int height();
+
+    /**
+     * Возвращает хранилище, в котором размещена сетка. Алгоритмы создают в нем свои массивы размером с сетку.
+     *
+     * @return хранилище сетки
+     */
+    GridStorage storage();
+
+    /**
+     * Возвращает количество ячеек сетки.
+     *
+     * @return {@code width * height}
+     */
+    default long cellCount() {
+        return (long) width() * height();
+    }
+
+    /**
+     * Возвращает тип ячейки.
+     *
+     * @param x координата X
+     * @param y координата Y
+     * @return тип ячейки
+     */
+    CellType get(int x, int y);
+
+    /**
+     * Проверяет, является ли ячейка стеной.
+     *
+     * @param x координата X
+     * @param y координата Y
+     * @return {@code true} если ячейка - стена
+     */
+    default boolean isWall(int x, int y) {
+        return get(x, y) == CellType.WALL;
+    }
+}
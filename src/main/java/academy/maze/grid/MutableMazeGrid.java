@@ -0,0 +1,43 @@
+package academy.maze.grid;
+
+import academy.maze.dto.CellType;
+
+/**
+ * Изменяемая сетка ячеек лабиринта. Используется при построении и редактировании лабиринта; готовый лабиринт хранит
+ * неизменяемый снимок, полученный через {@link #snapshot()}.
+ */
+public interface MutableMazeGrid extends MazeGrid {
+    /**
+     * Устанавливает тип ячейки.
+     *
+     * @param x координата X
+     * @param y координата Y
+     * @param type новый тип ячейки
+     * @throws IllegalStateException если сетка является неизменяемым снимком
+     */
+    void set(int x, int y, CellType type);
+
+    /**
+     * Устанавливает тип ячейки так, что одновременные вызовы из разных потоков для разных ячеек не теряют записей.
+     * Используется параллельными генераторами. Согласован только с такими же вызовами; снимок во время параллельной
+     * записи не делается.
+     *
+     * @param x координата X
+     * @param y координата Y
+     * @param type новый тип ячейки
+     * @throws IllegalStateException если сетка является неизменяемым снимком
+     */
+    default void setAtomically(int x, int y, CellType type) {
+        synchronized (this) {
+            set(x, y, type);
+        }
+    }
+
+    /**
+     * Возвращает неизменяемый снимок текущего содержимого сетки. Последующие изменения этой сетки не затрагивают
+     * снимок, поэтому его можно без блокировок читать из любого числа потоков.
+     *
+     * @return неизменяемая сетка с текущими ячейками
+     */
+    MazeGrid snapshot();
+}
@@ -0,0 +1,74 @@
+package academy.maze.grid;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+/**
+ * Реализация {@link PackedArray} поверх {@link MemorySegment} вне кучи. Не ограничена размером Java-массивов и не
+ * сканируется сборщиком мусора.
+ *
+ * @implNote Сегмент выделяется в автоматической арене: память освобождается, когда массив становится недостижимым, и
+ *     доступна из любого потока.
+ */
+final class OffHeapPackedArray implements PackedArray {
+    /** Доступ к слову сегмента по индексу: координаты {@code (MemorySegment, long)}, базовое смещение - ноль */
+    private static final VarHandle WORDS =
+            MethodHandles.insertCoordinates(ValueLayout.JAVA_LONG.arrayElementVarHandle(), 1, 0L);
+
+    private final long size;
+    private final int bitsShift;
+    private final long mask;
+    private final MemorySegment words;
+
+    OffHeapPackedArray(long size, int bitsPerValue) {
+        this.size = size;
+        this.bitsShift = Integer.numberOfTrailingZeros(bitsPerValue);
+        this.mask = PackedArrays.mask(bitsPerValue);
+        this.words = Arena.ofAuto().allocate(PackedArrays.words(size, bitsPerValue) * Long.BYTES, Long.BYTES);
+    }
+
+    private OffHeapPackedArray(OffHeapPackedArray source) {
+        this.size = source.size;
+        this.bitsShift = source.bitsShift;
+        this.mask = source.mask;
+        this.words = Arena.ofAuto().allocate(source.words.byteSize(), Long.BYTES).copyFrom(source.words);
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public long get(long index) {
+        long bit = Objects.checkIndex(index, size) << bitsShift;
+        return words.getAtIndex(ValueLayout.JAVA_LONG, bit >>> 6) >>> bit & mask;
+    }
+
+    @Override
+    public void set(long index, long value) {
+        long bit = Objects.checkIndex(index, size) << bitsShift;
+        long word = words.getAtIndex(ValueLayout.JAVA_LONG, bit >>> 6);
+        words.setAtIndex(ValueLayout.JAVA_LONG, bit >>> 6, word & ~(mask << bit) | (value & mask) << bit);
+    }
+
+    @Override
+    public void setAtomically(long index, long value) {
+        long bit = Objects.checkIndex(index, size) << bitsShift;
+        long word = bit >>> 6;
+        long current;
+        do {
+            current = (long) WORDS.getVolatile(words, word);
+        } while (!WORDS.weakCompareAndSet(
+                words, word, current, current & ~(mask << bit) | (value & mask) << bit));
+    }
+
+    @Override
+    public PackedArray copy() {
+        return new OffHeapPackedArray(this);
+    }
+}
@@ -0,0 +1,49 @@
+package academy.maze.grid;
+
+/**
+ * Массив упакованных беззнаковых значений фиксированной разрядности с 64-битной адресацией. Служит общим хранилищем
+ * для сетки лабиринта и вспомогательных данных алгоритмов (посещенные ячейки, направления к предкам, DSU).
+ *
+ * <p>Разрядность - степень двойки от 1 до 64, поэтому значение никогда не пересекает границу 64-битного слова.
+ * Новый массив заполнен нулями.
+ */
+public interface PackedArray {
+    /**
+     * Возвращает количество элементов массива.
+     *
+     * @return количество элементов
+     */
+    long size();
+
+    /**
+     * Возвращает значение элемента.
+     *
+     * @param index индекс элемента
+     * @return значение элемента
+     */
+    long get(long index);
+
+    /**
+     * Устанавливает значение элемента. Старшие биты, не помещающиеся в разрядность массива, отбрасываются.
+     *
+     * @param index индекс элемента
+     * @param value новое значение
+     */
+    void set(long index, long value);
+
+    /**
+     * Атомарно устанавливает значение элемента. Одновременные вызовы из разных потоков не теряют записей, даже если
+     * элементы лежат в одном 64-битном слове. Согласован только с такими же вызовами, но не с {@link #set}.
+     *
+     * @param index индекс элемента
+     * @param value новое значение
+     */
+    void setAtomically(long index, long value);
+
+    /**
+     * Создает независимую копию массива в том же хранилище.
+     *
+     * @return массив с теми же значениями, изменения которого не затрагивают исходный
+     */
+    PackedArray copy();
+}
@@ -0,0 +1,55 @@
+package academy.maze.grid;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/** Общие вычисления для реализаций {@link PackedArray}. */
+final class PackedArrays {
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private PackedArrays() {}
+
+    /**
+     * Вычисляет количество 64-битных слов, необходимое для хранения массива.
+     *
+     * @param size количество элементов
+     * @param bitsPerValue разрядность элемента
+     * @return количество слов
+     * @throws IllegalArgumentException если размер отрицателен или разрядность не степень двойки от 1 до 64
+     */
+    static long words(long size, int bitsPerValue) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Array size must not be negative: " + size);
+        }
+        if (bitsPerValue <= 0 || bitsPerValue > Long.SIZE || Integer.bitCount(bitsPerValue) != 1) {
+            throw new IllegalArgumentException("Bits per value must be a power of two up to 64: " + bitsPerValue);
+        }
+
+        return Math.ceilDiv(Math.multiplyExact(size, bitsPerValue), Long.SIZE);
+    }
+
+    /**
+     * Возвращает маску значения заданной разрядности.
+     *
+     * @param bitsPerValue разрядность элемента
+     * @return маска из {@code bitsPerValue} младших единичных битов
+     */
+    static long mask(int bitsPerValue) {
+        return bitsPerValue == Long.SIZE ? -1L : (1L << bitsPerValue) - 1;
+    }
+
+    /**
+     * Атомарно заменяет биты слова массива, выделенные маской.
+     *
+     * @param words массив слов
+     * @param word индекс слова
+     * @param mask маска заменяемых битов
+     * @param bits новые значения битов, уже сдвинутые под маску
+     */
+    static void setBitsAtomically(long[] words, int word, long mask, long bits) {
+        long current;
+        do {
+            current = (long) WORDS.getVolatile(words, word);
+        } while (!WORDS.weakCompareAndSet(words, word, current, current & ~mask | bits));
+    }
+}
@@ -0,0 +1,234 @@
+package academy.maze.grid;
+
+import academy.maze.dto.CellType;
+import java.util.Objects;
+
+/**
+ * Битовая упаковка сетки лабиринта в плоский массив {@link PackedArray}, размещенный в куче или вне ее в зависимости от
+ * {@link GridStorage}.
+ *
+ * <p>Каждая ячейка занимает один бит: {@code 0} - стена, {@code 1} - проход. Типы {@link CellType#PATH},
+ * {@link CellType#ENTER} и {@link CellType#EXIT} хранятся в отдельном двухбитном слое, который выделяется только при
+ * первой записи такой ячейки. Сгенерированные лабиринты содержат лишь стены и проходы, поэтому слой для них не
+ * создается.
+ *
+ * <p>Сравнение с {@code CellType[][]} (сжатые ссылки, 4 байта на ячейку плюс заголовок каждой строки):
+ *
+ * <table>
+ *   <caption>Память под сетку</caption>
+ *   <tr><th>Размер</th><th>{@code CellType[][]}</th><th>{@code PackedGrid}</th></tr>
+ *   <tr><td>1k × 1k</td><td>≈ 3.8 MiB</td><td>≈ 122 KiB</td></tr>
+ *   <tr><td>10k × 10k</td><td>≈ 382 MiB</td><td>≈ 11.9 MiB</td></tr>
+ *   <tr><td>30k × 30k</td><td>≈ 3.35 GiB</td><td>≈ 107 MiB</td></tr>
+ * </table>
+ *
+ * <p>Без сжатых ссылок (куча больше 32 GiB) выигрыш удваивается.
+ *
+ * <p>{@link #snapshot()} выполняется за O(1): снимок разделяет слои с исходной сеткой, а исходная сетка копирует их при
+ * первой записи после снимка. Снимок, как и любой объект, передается в другие потоки через безопасную публикацию
+ * (executor, конкурентная коллекция, {@code volatile}-поле).
+ */
+public final class PackedGrid implements MutableMazeGrid {
+    /** Разрядность слоя типов проходимых ячеек */
+    private static final int OVERLAY_BITS = 2;
+
+    /** Типы проходимых ячеек по коду в слое типов */
+    private static final CellType[] OVERLAY_TYPES = {CellType.PASS, CellType.PATH, CellType.ENTER, CellType.EXIT};
+
+    private final int width;
+    private final int height;
+    private final GridStorage storage;
+
+    /**
+     * Основной слой: бит {@code y * width + x} установлен, если ячейка проходима. Слои и флаг {@link #shared}
+     * объявлены {@code volatile}: {@link #setAtomically} читает их без блокировки, пока другой поток меняет их под ней
+     */
+    private volatile PackedArray passable;
+
+    /** Слой типов проходимых ячеек, по 2 бита на ячейку. {@code null}, пока не записан ни один особый тип */
+    private volatile PackedArray overlay;
+
+    /** Является ли сетка неизменяемым снимком */
+    private final boolean frozen;
+
+    /** Разделяются ли слои со снимком. Перед следующей записью слои копируются */
+    private volatile boolean shared;
+
+    /**
+     * Создает сетку в куче, полностью заполненную стенами.
+     *
+     * @param width ширина сетки
+     * @param height высота сетки
+     * @throws IllegalArgumentException если width или height <= 0 или сетка не помещается в кучу
+     */
+    public PackedGrid(int width, int height) {
+        this(width, height, GridStorage.HEAP);
+    }
+
+    /**
+     * Создает сетку в указанном хранилище, полностью заполненную стенами.
+     *
+     * @param width ширина сетки
+     * @param height высота сетки
+     * @param storage хранилище сетки и вспомогательных массивов алгоритмов
+     * @throws IllegalArgumentException если width или height <= 0 или сетка не помещается в хранилище
+     */
+    public PackedGrid(int width, int height, GridStorage storage) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Grid width and height must be bigger than zero");
+        }
+
+        this.width = width;
+        this.height = height;
+        this.storage = storage;
+        this.passable = storage.newCellArray(width, height, 1);
+        this.frozen = false;
+    }
+
+    private PackedGrid(PackedGrid source) {
+        this.width = source.width;
+        this.height = source.height;
+        this.storage = source.storage;
+        this.passable = source.passable;
+        this.overlay = source.overlay;
+        this.frozen = true;
+    }
+
+    /**
+     * Создает сетку по двумерному массиву ячеек.
+     *
+     * @param cells массив ячеек, индексы: [y][x]
+     * @return упакованная сетка с теми же ячейками
+     */
+    public static PackedGrid of(CellType[][] cells) {
+        var grid = new PackedGrid(cells[0].length, cells.length);
+        for (int y = 0; y < grid.height; y++) {
+            for (int x = 0; x < grid.width; x++) {
+                grid.set(x, y, cells[y][x]);
+            }
+        }
+
+        return grid;
+    }
+
+    /**
+     * Оценивает объем памяти под основной слой сетки без ее создания.
+     *
+     * @param width ширина сетки
+     * @param height высота сетки
+     * @return размер основного слоя в байтах вместе с заголовком массива
+     */
+    public static long estimateBytes(int width, int height) {
+        return Long.BYTES * PackedArrays.words((long) width * height, 1) + 16;
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    @Override
+    public GridStorage storage() {
+        return storage;
+    }
+
+    @Override
+    public CellType get(int x, int y) {
+        long index = index(x, y);
+        if (passable.get(index) == 0) {
+            return CellType.WALL;
+        }
+
+        PackedArray types = overlay;
+        return types == null ? CellType.PASS : OVERLAY_TYPES[(int) types.get(index)];
+    }
+
+    @Override
+    public boolean isWall(int x, int y) {
+        return passable.get(index(x, y)) == 0;
+    }
+
+    @Override
+    public void set(int x, int y, CellType type) {
+        if (frozen) {
+            throw new IllegalStateException("Maze grid snapshot is immutable");
+        }
+        long index = index(x, y);
+        detach();
+        passable.set(index, type == CellType.WALL ? 0 : 1);
+
+        int code = type == CellType.WALL ? 0 : type.ordinal() - CellType.PASS.ordinal();
+        if (code != 0 && overlay == null) {
+            overlay = storage.newCellArray(width, height, OVERLAY_BITS);
+        }
+        if (overlay != null) {
+            overlay.set(index, code);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Запись выполняется атомарной заменой битов в слове без блокировок; блокировка берется только при создании
+     * слоя типов или копировании слоев после снимка. Слои читаются один раз: после блокировки - записанные под ней,
+     * иначе - опубликованные через {@code volatile}-поля.
+     */
+    @Override
+    public void setAtomically(int x, int y, CellType type) {
+        if (frozen) {
+            throw new IllegalStateException("Maze grid snapshot is immutable");
+        }
+        long index = index(x, y);
+        int code = type == CellType.WALL ? 0 : type.ordinal() - CellType.PASS.ordinal();
+        PackedArray cells;
+        PackedArray types;
+        if (shared || code != 0 && overlay == null) {
+            synchronized (this) {
+                detach();
+                if (code != 0 && overlay == null) {
+                    overlay = storage.newCellArray(width, height, OVERLAY_BITS);
+                }
+                cells = passable;
+                types = overlay;
+            }
+        } else {
+            cells = passable;
+            types = overlay;
+        }
+
+        cells.setAtomically(index, type == CellType.WALL ? 0 : 1);
+        if (types != null) {
+            types.setAtomically(index, code);
+        }
+    }
+
+    @Override
+    public MazeGrid snapshot() {
+        if (frozen) {
+            return this;
+        }
+
+        shared = true;
+        return new PackedGrid(this);
+    }
+
+    /** Копирует слои, разделяемые со снимком, перед записью. */
+    private void detach() {
+        if (shared) {
+            passable = passable.copy();
+            overlay = overlay == null ? null : overlay.copy();
+            shared = false;
+        }
+    }
+
+    private long index(int x, int y) {
+        Objects.checkIndex(x, width);
+        Objects.checkIndex(y, height);
+        return (long) y * width + x;
+    }
+}
@@ -0,0 +1,356 @@
+package academy.maze.grid;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Реализация {@link PackedArray}, разбитая на квадратные плитки двумерной сетки. Элемент с индексом
+ * {@code y * width + x} попадает в плитку {@code (x / tileSize, y / tileSize)}.
+ *
+ * <p>Плитка выделяется только при первой записи ненулевого значения, поэтому нулевые области (например, сплошные стены
+ * или непосещенные ячейки) не занимают памяти. Если задан лимит резидентных плиток, при его превышении холодные плитки
+ * вытесняются во временный файл по алгоритму CLOCK и подгружаются обратно при следующем обращении. В результате
+ * рабочий набор определяется исследованной областью, а не размером сетки.
+ *
+ * @implNote Чтение неизменяемого массива потокобезопасно: без вытеснения оно ничего не изменяет, а подгрузка
+ *     вытесненной плитки выполняется под блокировкой, и плитка публикуется с семантикой release/acquire. Обычная запись
+ *     требует внешней синхронизации; {@link #setAtomically} создает плитку под блокировкой, а при включенном вытеснении
+ *     целиком выполняется под ней.
+ */
+final class TiledPackedArray implements PackedArray {
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final VarHandle TILES = MethodHandles.arrayElementVarHandle(long[][].class);
+
+    private final long size;
+    private final int width;
+    private final int bitsShift;
+    private final long mask;
+
+    private final int tileShift;
+    private final int tileMask;
+    private final int tilesX;
+    private final int tileWords;
+
+    /** Плитки по индексу {@code tileY * tilesX + tileX}. {@code null} - плитка нулевая или вытеснена */
+    private final long[][] tiles;
+
+    /** Номер слота плитки во временном файле или {@code -1}, если плитка туда не записывалась */
+    private final int[] slots;
+
+    /** Изменялась ли плитка с момента последней записи в файл */
+    private final boolean[] dirty;
+
+    /** Признак недавнего обращения для алгоритма CLOCK */
+    private final boolean[] referenced;
+
+    /** Кольцо резидентных плиток для алгоритма CLOCK. {@code null}, если вытеснение отключено */
+    private final int[] resident;
+
+    private int residentCount;
+    private int clockHand;
+    private int usedSlots;
+    private int materializedTiles;
+
+    private Scratch scratch;
+
+    /**
+     * Создает массив, разбитый на плитки.
+     *
+     * @param size количество элементов
+     * @param bitsPerValue разрядность элемента: степень двойки от 1 до 64
+     * @param width ширина сетки, по которой плоский индекс раскладывается на координаты
+     * @param tileSize сторона плитки: степень двойки
+     * @param maxResidentTiles максимальное количество плиток в памяти или {@code 0}, если вытеснение отключено
+     */
+    TiledPackedArray(long size, int bitsPerValue, int width, int tileSize, int maxResidentTiles) {
+        PackedArrays.words(size, bitsPerValue);
+        if (width <= 0 || tileSize <= 0 || Integer.bitCount(tileSize) != 1 || maxResidentTiles < 0) {
+            throw new IllegalArgumentException("Invalid tile layout: width " + width + ", tile size " + tileSize);
+        }
+
+        this.size = size;
+        this.width = width;
+        this.bitsShift = Integer.numberOfTrailingZeros(bitsPerValue);
+        this.mask = PackedArrays.mask(bitsPerValue);
+
+        this.tileShift = Integer.numberOfTrailingZeros(tileSize);
+        this.tileMask = tileSize - 1;
+        this.tilesX = (width + tileMask) >>> tileShift;
+        this.tileWords = Math.toIntExact(PackedArrays.words((long) tileSize * tileSize, bitsPerValue));
+
+        long height = Math.ceilDiv(size, width);
+        int tileCount = Math.toIntExact(tilesX * ((height + tileMask) >>> tileShift));
+        this.tiles = new long[tileCount][];
+        this.slots = new int[tileCount];
+        this.dirty = new boolean[tileCount];
+        this.referenced = new boolean[tileCount];
+        this.resident = maxResidentTiles == 0 ? null : new int[maxResidentTiles];
+        Arrays.fill(slots, -1);
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public long get(long index) {
+        Objects.checkIndex(index, size);
+        long y = index / width;
+        int x = (int) (index - y * width);
+        int tileIndex = tileIndex(x, y);
+
+        long[] tile = tile(tileIndex, false);
+        if (tile == null) {
+            return 0;
+        }
+
+        long bit = (long) offset(x, y) << bitsShift;
+        return tile[(int) (bit >>> 6)] >>> bit & mask;
+    }
+
+    @Override
+    public void set(long index, long value) {
+        Objects.checkIndex(index, size);
+        long y = index / width;
+        int x = (int) (index - y * width);
+        int tileIndex = tileIndex(x, y);
+
+        long[] tile = tile(tileIndex, (value & mask) != 0);
+        if (tile == null) {
+            return;
+        }
+
+        long bit = (long) offset(x, y) << bitsShift;
+        int word = (int) (bit >>> 6);
+        tile[word] = tile[word] & ~(mask << bit) | (value & mask) << bit;
+        dirty[tileIndex] = true;
+    }
+
+    @Override
+    public void setAtomically(long index, long value) {
+        if (resident != null) {
+            synchronized (this) {
+                set(index, value);
+            }
+            return;
+        }
+
+        Objects.checkIndex(index, size);
+        long y = index / width;
+        int x = (int) (index - y * width);
+        int tileIndex = tileIndex(x, y);
+
+        long[] tile = tile(tileIndex, false);
+        if (tile == null) {
+            if ((value & mask) == 0) {
+                return;
+            }
+            synchronized (this) {
+                tile = tile(tileIndex, true);
+            }
+        }
+
+        long bit = (long) offset(x, y) << bitsShift;
+        PackedArrays.setBitsAtomically(tile, (int) (bit >>> 6), mask << bit, (value & mask) << bit);
+    }
+
+    @Override
+    public PackedArray copy() {
+        var copy = new TiledPackedArray(
+                size, 1 << bitsShift, width, tileMask + 1, resident == null ? 0 : resident.length);
+        for (int tileIndex = 0; tileIndex < tiles.length; tileIndex++) {
+            long[] tile = tile(tileIndex, false);
+            if (tile != null) {
+                copy.admit(tileIndex, tile.clone());
+                copy.dirty[tileIndex] = true;
+                copy.materializedTiles++;
+            }
+        }
+
+        return copy;
+    }
+
+    /**
+     * Возвращает количество плиток, под которые когда-либо выделялась память.
+     *
+     * @return количество материализованных плиток
+     */
+    int materializedTiles() {
+        return materializedTiles;
+    }
+
+    /**
+     * Возвращает количество плиток, находящихся в памяти.
+     *
+     * @return количество резидентных плиток
+     */
+    int residentTiles() {
+        return resident == null ? materializedTiles : residentCount;
+    }
+
+    private int tileIndex(int x, long y) {
+        return (int) (y >>> tileShift) * tilesX + (x >>> tileShift);
+    }
+
+    private int offset(int x, long y) {
+        return ((int) y & tileMask) << tileShift | x & tileMask;
+    }
+
+    /**
+     * Возвращает плитку, при необходимости подгружая ее из файла или создавая новую.
+     *
+     * @param tileIndex индекс плитки
+     * @param create создать ли нулевую плитку, если она еще не существует
+     * @return плитка или {@code null}, если плитка нулевая и {@code create == false}
+     */
+    private long[] tile(int tileIndex, boolean create) {
+        long[] tile = (long[]) TILES.getAcquire(tiles, tileIndex);
+        if (tile != null) {
+            referenced[tileIndex] = true;
+            return tile;
+        }
+        if (resident == null) {
+            return create ? materialize(tileIndex) : null;
+        }
+
+        synchronized (this) {
+            tile = tiles[tileIndex];
+            if (tile == null) {
+                if (slots[tileIndex] >= 0) {
+                    tile = load(tileIndex);
+                } else if (create) {
+                    tile = materialize(tileIndex);
+                }
+            }
+            return tile;
+        }
+    }
+
+    private long[] materialize(int tileIndex) {
+        materializedTiles++;
+        return admit(tileIndex, new long[tileWords]);
+    }
+
+    /** Делает плитку резидентной, при необходимости вытесняя другую плитку по алгоритму CLOCK. */
+    private long[] admit(int tileIndex, long[] tile) {
+        if (resident != null) {
+            if (residentCount < resident.length) {
+                resident[residentCount++] = tileIndex;
+            } else {
+                while (referenced[resident[clockHand]]) {
+                    referenced[resident[clockHand]] = false;
+                    clockHand = (clockHand + 1) % resident.length;
+                }
+                evict(resident[clockHand]);
+                resident[clockHand] = tileIndex;
+                clockHand = (clockHand + 1) % resident.length;
+            }
+        }
+
+        referenced[tileIndex] = true;
+        TILES.setRelease(tiles, tileIndex, tile);
+        return tile;
+    }
+
+    private void evict(int tileIndex) {
+        if (dirty[tileIndex]) {
+            if (slots[tileIndex] < 0) {
+                slots[tileIndex] = usedSlots++;
+            }
+            scratch().write(slots[tileIndex], tiles[tileIndex]);
+            dirty[tileIndex] = false;
+        }
+
+        tiles[tileIndex] = null;
+    }
+
+    private long[] load(int tileIndex) {
+        var tile = new long[tileWords];
+        scratch().read(slots[tileIndex], tile);
+        return admit(tileIndex, tile);
+    }
+
+    private Scratch scratch() {
+        if (scratch == null) {
+            scratch = new Scratch(tileWords);
+            CLEANER.register(this, scratch);
+        }
+
+        return scratch;
+    }
+
+    /**
+     * Временный файл для вытесненных плиток. Удаляется при закрытии, которое выполняется {@link Cleaner} после того,
+     * как массив станет недостижимым.
+     */
+    private static final class Scratch implements Runnable {
+        private final SeekableByteChannel channel;
+        private final ByteBuffer buffer;
+
+        Scratch(int tileWords) {
+            try {
+                Path file = Files.createTempFile("maze-tiles", ".bin");
+                channel = Files.newByteChannel(
+                        file,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.SPARSE,
+                        StandardOpenOption.DELETE_ON_CLOSE);
+                file.toFile().deleteOnExit();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to create tile scratch file", e);
+            }
+            buffer = ByteBuffer.allocateDirect(tileWords * Long.BYTES).order(ByteOrder.nativeOrder());
+        }
+
+        void write(int slot, long[] tile) {
+            buffer.clear();
+            buffer.asLongBuffer().put(tile);
+            try {
+                channel.position((long) slot * buffer.capacity());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to evict tile to scratch file", e);
+            }
+        }
+
+        void read(int slot, long[] tile) {
+            buffer.clear();
+            try {
+                channel.position((long) slot * buffer.capacity());
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) < 0) {
+                        throw new IOException("Unexpected end of scratch file");
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to load tile from scratch file", e);
+            }
+            buffer.flip();
+            buffer.asLongBuffer().get(tile);
+        }
+
+        @Override
+        public void run() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to close tile scratch file", e);
+            }
+        }
+    }
+}
@@ -3,8 +3,14 @@ package academy.maze.renderer;
 import academy.maze.dto.CellType;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Path;
-import academy.maze.dto.Point;
+import academy.maze.grid.GridRowConsumer;
+import academy.maze.grid.GridStorage;
+import academy.maze.grid.MazeGrid;
 import academy.maze.styles.StylesStorage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * Базовый абстрактный класс для рендереров лабиринта. Содержит общую логику отрисовки, которую наследуют конкретные
@@ -38,77 +44,187 @@ public abstract class AbstractMazeRenderer implements MazeRenderer {
      */
     @Override
     public String renderGeneratedMaze(Maze maze) {
-        Character[][] textSolvedMaze = createEmptyTextMaze(maze);
-        return buildFinalMazeString(maze, textSolvedMaze);
+        var sb = new StringBuilder();
+        for (int y = 0; y < maze.height(); y++) {
+            appendGeneratedRow(maze, y, sb);
+        }
+
+        return sb.toString();
     }
 
     /**
      * Отрисовывает лабиринт с отмеченным путем решения.
      *
+     * <p>Лабиринт выводится построчно без промежуточной матрицы символов: ячейки пути отмечаются по отсортированному
+     * массиву их индексов, поэтому кроме самой строки память занимает только путь.
+     *
      * @param maze объект лабиринта для отрисовки
      * @param path путь решения для отображения
      * @return строковое представление лабиринта с решением
      */
     @Override
     public String renderSolvedMaze(Maze maze, Path path) {
-        Character[][] textSolvedMaze = createEmptyTextMaze(maze);
-        markPathInMaze(textSolvedMaze, path);
-        return buildFinalMazeString(maze, textSolvedMaze);
+        long[] pathCells = sortedPathCells(maze, path);
+        var sb = new StringBuilder();
+        int next = 0;
+
+        for (int y = 0; y < maze.height(); y++) {
+            for (int x = 0; x < maze.width(); x++) {
+                long index = (long) y * maze.width() + x;
+                while (next < pathCells.length && pathCells[next] < index) {
+                    next++;
+                }
+
+                CellType type = maze.cells().get(x, y);
+                if (type == CellType.WALL) {
+                    sb.append(getWallSymbol(maze, x, y));
+                } else if (next < pathCells.length && pathCells[next] == index) {
+                    sb.append(styles.getSymbol(getStyle(), pathCellType(path, x, y)));
+                } else {
+                    sb.append(styles.getSymbol(getStyle(), type));
+                }
+            }
+            sb.append('\n');
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public GridRowConsumer renderGeneratedRows(Appendable out) {
+        return new RowWriter(out);
     }
 
     /**
-     * Создает пустую текстовую матрицу для лабиринта.
+     * Возвращает индексы ячеек пути {@code y * width + x} в порядке возрастания, то есть в порядке вывода.
      *
      * @param maze лабиринт
-     * @return пустая матрица символов
+     * @param path путь решения
+     * @return отсортированные индексы ячеек пути
      */
-    private Character[][] createEmptyTextMaze(Maze maze) {
-        return new Character[maze.height()][maze.width()];
+    private static long[] sortedPathCells(Maze maze, Path path) {
+        var cells = new long[path.length()];
+        path.forEachPoint((i, x, y) -> cells[i] = (long) y * maze.width() + x);
+        Arrays.sort(cells);
+        return cells;
     }
 
     /**
-     * Отмечает путь решения в текстовой матрице лабиринта.
+     * Определяет тип ячейки пути: начальная точка - вход, конечная - выход, остальные - путь.
      *
-     * @param textSolvedMaze текстовая матрица лабиринта
      * @param path путь решения
+     * @param x координата X ячейки пути
+     * @param y координата Y ячейки пути
+     * @return тип ячейки для отрисовки
      */
-    private void markPathInMaze(Character[][] textSolvedMaze, Path path) {
-        int n = path.points().length;
-        for (int i = 0; i < n; i++) {
-            Point point = path.points()[i];
-            if (i == 0) {
-                textSolvedMaze[point.y()][point.x()] = styles.getSymbol(getStyle(), CellType.ENTER);
-            } else if (i == n - 1) {
-                textSolvedMaze[point.y()][point.x()] = styles.getSymbol(getStyle(), CellType.EXIT);
-            } else {
-                textSolvedMaze[point.y()][point.x()] = styles.getSymbol(getStyle(), CellType.PATH);
-            }
+    private static CellType pathCellType(Path path, int x, int y) {
+        if (path.start().x() == x && path.start().y() == y) {
+            return CellType.ENTER;
         }
+
+        return path.end().x() == x && path.end().y() == y ? CellType.EXIT : CellType.PATH;
     }
 
     /**
-     * Собирает финальное строковое представление лабиринта.
+     * Дописывает строку сгенерированного лабиринта.
      *
      * @param maze лабиринт
-     * @param textSolvedMaze текстовая матрица с отмеченным путем
-     * @return строковое представление лабиринта
+     * @param y номер строки
+     * @param sb строка-приемник
      */
-    private String buildFinalMazeString(Maze maze, Character[][] textSolvedMaze) {
-        var sb = new StringBuilder();
+    private void appendGeneratedRow(Maze maze, int y, StringBuilder sb) {
+        for (int x = 0; x < maze.width(); x++) {
+            CellType type = maze.cells().get(x, y);
+            sb.append(type == CellType.WALL ? getWallSymbol(maze, x, y) : styles.getSymbol(getStyle(), type));
+        }
+        sb.append('\n');
+    }
 
-        for (int y = 0; y < maze.height(); y++) {
-            for (int x = 0; x < maze.width(); x++) {
-                CellType type = maze.cells()[y][x];
-                if (type == CellType.WALL) {
-                    textSolvedMaze[y][x] = getWallSymbol(maze, x, y);
-                } else if (textSolvedMaze[y][x] == null) {
-                    textSolvedMaze[y][x] = styles.getSymbol(getStyle(), type);
-                }
-                sb.append(textSolvedMaze[y][x]);
+    /**
+     * Построчный вывод лабиринта. Строка {@code y} записывается после получения строки {@code y + 1}, так как символ
+     * стены может зависеть от соседей сверху и снизу.
+     */
+    private final class RowWriter implements GridRowConsumer {
+        private final Appendable out;
+        private final StringBuilder line = new StringBuilder();
+        private RowWindow window;
+        private Maze maze;
+
+        RowWriter(Appendable out) {
+            this.out = out;
+        }
+
+        @Override
+        public void begin(int width, int height) {
+            window = new RowWindow(width, height);
+            maze = new Maze(window);
+        }
+
+        @Override
+        public void accept(int y, long[] passable) {
+            window.push(y, passable);
+            if (y > 0) {
+                write(y - 1);
+            }
+            if (y == window.height() - 1) {
+                write(y);
             }
-            sb.append('\n');
         }
 
-        return sb.toString();
+        private void write(int y) {
+            line.setLength(0);
+            appendGeneratedRow(maze, y, line);
+            try {
+                out.append(line);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write maze row", e);
+            }
+        }
+    }
+
+    /** Сетка, в которой доступны только три последние полученные строки. */
+    private static final class RowWindow implements MazeGrid {
+        private static final int ROWS = 3;
+
+        private final int width;
+        private final int height;
+        private final long[][] rows;
+
+        RowWindow(int width, int height) {
+            this.width = width;
+            this.height = height;
+            this.rows = new long[ROWS][(width + Long.SIZE - 1) / Long.SIZE];
+        }
+
+        void push(int y, long[] passable) {
+            System.arraycopy(passable, 0, rows[y % ROWS], 0, rows[y % ROWS].length);
+        }
+
+        @Override
+        public int width() {
+            return width;
+        }
+
+        @Override
+        public int height() {
+            return height;
+        }
+
+        @Override
+        public GridStorage storage() {
+            return GridStorage.HEAP;
+        }
+
+        @Override
+        public CellType get(int x, int y) {
+            return isWall(x, y) ? CellType.WALL : CellType.PASS;
+        }
+
+        @Override
+        public boolean isWall(int x, int y) {
+            Objects.checkIndex(x, width);
+            long[] row = rows[Objects.checkIndex(y, height) % ROWS];
+            return (row[x / Long.SIZE] & 1L << x) == 0;
+        }
     }
 }
@@ -2,6 +2,7 @@ package academy.maze.renderer;
 
 import academy.maze.dto.Maze;
 import academy.maze.dto.Path;
+import academy.maze.grid.GridRowConsumer;
 
 /**
  * Интерфейс для отрисовки лабиринтов. Определяет методы для отображения сгенерированного лабиринта и лабиринта с
@@ -23,4 +24,13 @@ public interface MazeRenderer {
      * @return строковое представление лабиринта с решением
      */
     String renderSolvedMaze(Maze maze, Path path);
+
+    /**
+     * Создает получателя строк, который отрисовывает генерируемый построчно лабиринт и сразу записывает каждую готовую
+     * строку. В памяти хранятся только три соседние строки сетки.
+     *
+     * @param out приемник текста
+     * @return получатель строк сетки для {@link academy.maze.generator.StreamingGenerator}
+     */
+    GridRowConsumer renderGeneratedRows(Appendable out);
 }
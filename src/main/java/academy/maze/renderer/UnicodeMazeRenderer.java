@@ -1,6 +1,5 @@
 package academy.maze.renderer;
 
-import academy.maze.dto.CellType;
 import academy.maze.dto.Direction;
 import academy.maze.dto.Maze;
 
@@ -50,6 +49,6 @@ public class UnicodeMazeRenderer extends AbstractMazeRenderer {
      *     случае
      */
     private boolean isWall(Maze maze, int x, int y) {
-        return x >= 0 && x < maze.width() && y >= 0 && y < maze.height() && maze.cells()[y][x] == CellType.WALL;
+        return x >= 0 && x < maze.width() && y >= 0 && y < maze.height() && maze.cells().isWall(x, y);
     }
 }
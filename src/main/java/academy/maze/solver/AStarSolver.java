@@ -1,15 +1,13 @@
 package academy.maze.solver;
 
-import academy.maze.dto.CellType;
 import academy.maze.dto.Direction;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Node;
 import academy.maze.dto.Path;
 import academy.maze.dto.Point;
-import java.util.Arrays;
-import java.util.HashSet;
+import academy.maze.grid.MazeGrid;
+import academy.maze.grid.PackedArray;
 import java.util.PriorityQueue;
-import java.util.Set;
 
 /**
  * Реализация алгоритма A* для поиска кратчайшего пути в лабиринте.
@@ -20,7 +18,7 @@ import java.util.Set;
  * <p>Алгоритм работает следующим образом:
  *
  * <ol>
- *   <li>Инициализируются массивы для отслеживания минимальных стоимостей и предков
+ *   <li>Инициализируются массивы для отслеживания минимальных стоимостей и направлений к предкам
  *   <li>Начальная точка добавляется в приоритетную очередь с приоритетом равным {@link #heuristic}
  *   <li>Пока очередь не пуста:
  *       <ul>
@@ -34,13 +32,18 @@ import java.util.Set;
  *         <li>Для каждого соседа:
  *             <ul>
  *               <li>Пропускаются стены и посещенные узлы
- *               <li>Если найден более короткий путь - обновляются стоимость и предок
+ *               <li>Если найден более короткий путь - обновляются стоимость и направление к предку
  *               <li>Узел добавляется в очередь с приоритетом = g(n) + h(n)
  *             </ul>
  *       </ul>
  * </ol>
  *
- * @implNote В качестве эвристики используется манхэттенское расстояние
+ * @implNote В качестве эвристики используется манхэттенское расстояние. Ребра имеют единичную стоимость, поэтому
+ *     приоритет соседа отличается от текущего на небольшое целое число, и вместо двоичной кучи используется очередь на
+ *     корзинах {@link BucketQueue}: каждая операция стоит O(1), а весь поиск - O(n). Лабиринты в куче до {@code 2^31}
+ *     ячеек обходятся по плоским {@code int}-индексам в рабочих массивах потока {@link SearchWorkspace} со стоимостями
+ *     в {@code int[]}; устаревшие записи очереди для уже закрытых ячеек пропускаются при извлечении. Лабиринты вне
+ *     кучи, на диске или больше {@code 2^31} ячеек обходятся с приоритетной очередью и массивами в хранилище сетки.
  */
 public class AStarSolver extends AbstractSolver {
     /**
@@ -49,6 +52,8 @@ public class AStarSolver extends AbstractSolver {
      */
     private static final int EDGE_COST = 1;
 
+    private static final Direction[] DIRECTIONS = Direction.getDirections();
+
     /**
      * Находит кратчайший путь от начальной до конечной точки в лабиринте, используя алгоритм A*.
      *
@@ -61,16 +66,64 @@ public class AStarSolver extends AbstractSolver {
     @Override
     public Path solve(Maze maze, Point start, Point end) {
         if (isValidTargetPoints(maze, start, end)) {
-            return new Path(new Point[0]);
+            return Path.empty();
+        }
+
+        return SearchWorkspace.supports(maze.cells())
+                ? solveInWorkspace(maze, start, end)
+                : solveInStorage(maze, start, end);
+    }
+
+    private Path solveInWorkspace(Maze maze, Point start, Point end) {
+        MazeGrid cells = maze.cells();
+        int width = maze.width();
+        int height = maze.height();
+        SearchWorkspace workspace = SearchWorkspace.acquire(width * height);
+        workspace.prepareCosts(width * height);
+        BucketQueue queue = workspace.buckets();
+
+        int startCell = start.y() * width + start.x();
+        int endCell = end.y() * width + end.x();
+        workspace.setCost(startCell, 0);
+        queue.push(startCell, heuristic(start, end));
+
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            if (!workspace.visit(current)) continue;
+
+            if (current == endCell) {
+                return traceBackPath(maze, index -> workspace.direction((int) index), start, end);
+            }
+
+            int y = current / width;
+            int x = current - y * width;
+            int distance = workspace.cost(current) + EDGE_COST;
+            for (Direction direction : DIRECTIONS) {
+                int neighborX = x + direction.deltaX;
+                int neighborY = y + direction.deltaY;
+                if (neighborX < 0 || neighborX >= width || neighborY < 0 || neighborY >= height) continue;
+
+                int neighbor = current + direction.deltaY * width + direction.deltaX;
+                if (workspace.isVisited(neighbor) || cells.isWall(neighborX, neighborY)) continue;
+                if (workspace.isReached(neighbor) && workspace.cost(neighbor) <= distance) continue;
+
+                workspace.setCost(neighbor, distance);
+                workspace.setDirection(neighbor, direction.ordinal());
+                queue.push(neighbor, distance + heuristic(neighborX, neighborY, end));
+            }
         }
 
+        return Path.empty();
+    }
+
+    private Path solveInStorage(Maze maze, Point start, Point end) {
         PriorityQueue<Node> priorityQueue = new PriorityQueue<>();
-        Set<Point> visited = new HashSet<>();
+        PackedArray visited = createCellArray(maze, 1);
 
-        Point[][] traceBackArray = new Point[maze.height()][maze.width()];
-        long[][] minCosts = createMinCosts(maze.width(), maze.height());
+        PackedArray traceBackArray = createCellArray(maze, DIRECTION_BITS);
+        PackedArray minCosts = createCellArray(maze, Integer.SIZE);
 
-        minCosts[start.y()][start.x()] = 0;
+        setMinCost(minCosts, index(maze, start), 0);
         priorityQueue.add(new Node(start, heuristic(start, end)));
 
         while (!priorityQueue.isEmpty()) {
@@ -78,30 +131,32 @@ public class AStarSolver extends AbstractSolver {
             Point current = node.point();
 
             if (current.equals(end)) {
-                return traceBackPath(traceBackArray, end);
+                return traceBackPath(maze, traceBackArray, start, end);
             }
 
-            visited.add(current);
+            long currentIndex = index(maze, current);
+            visited.set(currentIndex, 1);
 
-            for (Direction direction : Direction.getDirections()) {
+            for (Direction direction : DIRECTIONS) {
                 Point neighbor = new Point(current.x() + direction.deltaX, current.y() + direction.deltaY);
+                long neighborIndex = index(maze, neighbor);
 
-                if (maze.cells()[neighbor.y()][neighbor.x()] == CellType.WALL || visited.contains(neighbor)) {
+                if (maze.cells().isWall(neighbor.x(), neighbor.y()) || visited.get(neighborIndex) != 0) {
                     continue;
                 }
 
-                long distance = minCosts[current.y()][current.x()] + EDGE_COST;
-                if (distance < minCosts[neighbor.y()][neighbor.x()]) {
-                    traceBackArray[neighbor.y()][neighbor.x()] = current;
-                    minCosts[neighbor.y()][neighbor.x()] = distance;
+                long distance = getMinCost(minCosts, currentIndex) + EDGE_COST;
+                if (distance < getMinCost(minCosts, neighborIndex)) {
+                    traceBackArray.set(neighborIndex, direction.ordinal());
+                    setMinCost(minCosts, neighborIndex, distance);
 
-                    long weight = minCosts[neighbor.y()][neighbor.x()] + heuristic(neighbor, end);
+                    long weight = distance + heuristic(neighbor, end);
                     priorityQueue.add(new Node(neighbor, weight));
                 }
             }
         }
 
-        return new Path(new Point[0]);
+        return Path.empty();
     }
 
     /**
@@ -114,25 +169,45 @@ public class AStarSolver extends AbstractSolver {
      * @return манхэттенское расстояние между точками |x1-x2| + |y1-y2|
      */
     protected int heuristic(Point a, Point b) {
-        return Math.abs(a.x() - b.x()) + Math.abs(a.y() - b.y());
+        return heuristic(a.x(), a.y(), b);
     }
 
     /**
-     * Создает и инициализирует матрицу минимальных стоимостей.
+     * Эвристическая функция по координатам ячейки. Вызывается для каждого соседа в основном цикле поиска, поэтому
+     * принимает координаты без создания {@link Point}; подклассы меняют эвристику переопределением этого метода.
      *
-     * <p>Все ячейки инициализируются значением Integer.MAX_VALUE, что означает "бесконечную" стоимость (путь еще не
-     * найден).
+     * @param x координата X ячейки
+     * @param y координата Y ячейки
+     * @param end целевая точка
+     * @return манхэттенское расстояние от ячейки до целевой точки
+     */
+    protected int heuristic(int x, int y, Point end) {
+        return Math.abs(x - end.x()) + Math.abs(y - end.y());
+    }
+
+    /**
+     * Возвращает минимальную найденную стоимость достижения ячейки.
+     *
+     * <p>Стоимость хранится как {@code cost ^ Integer.MAX_VALUE}, поэтому нулевой элемент нового массива означает
+     * "бесконечную" стоимость (путь еще не найден) и массив не нужно предварительно заполнять. Это сохраняет ленивость
+     * хранилищ, которые не выделяют память под нулевые области.
      *
-     * @param width ширина матрицы
-     * @param height высота матрицы
-     * @return инициализированная матрица минимальных стоимостей
+     * @param minCosts массив минимальных стоимостей
+     * @param index индекс ячейки
+     * @return стоимость или Integer.MAX_VALUE, если ячейка еще не достигнута
      */
-    private long[][] createMinCosts(int width, int height) {
-        var minCosts = new long[height][width];
-        for (var row : minCosts) {
-            Arrays.fill(row, Integer.MAX_VALUE);
-        }
+    private long getMinCost(PackedArray minCosts, long index) {
+        return minCosts.get(index) ^ Integer.MAX_VALUE;
+    }
 
-        return minCosts;
+    /**
+     * Сохраняет минимальную стоимость достижения ячейки в формате {@link #getMinCost}.
+     *
+     * @param minCosts массив минимальных стоимостей
+     * @param index индекс ячейки
+     * @param cost новая стоимость
+     */
+    private void setMinCost(PackedArray minCosts, long index, long cost) {
+        minCosts.set(index, cost ^ Integer.MAX_VALUE);
     }
 }
@@ -1,11 +1,14 @@
 package academy.maze.solver;
 
 import academy.maze.dto.CellType;
+import academy.maze.dto.Direction;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Path;
 import academy.maze.dto.Point;
-import java.util.ArrayList;
-import java.util.List;
+import academy.maze.grid.PackedArray;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.LongToIntFunction;
 
 /**
  * Абстрактный базовый класс для всех алгоритмов решения лабиринтов.
@@ -13,41 +16,156 @@ import java.util.List;
  * <p>Предоставляет общую функциональность, используемую различными алгоритмами поиска пути/
  *
  * <p>Наследующие классы должны реализовать метод {@link #solve} с конкретным алгоритмом поиска пути, заполняя массив
- * предков для последующего восстановления пути.
+ * направлений к предкам для последующего восстановления пути.
+ *
+ * <p>Вспомогательные массивы размером с лабиринт создаются через {@link #createCellArray} в том же хранилище, что и
+ * сетка лабиринта, и адресуются 64-битным индексом {@link #index}.
  */
 public abstract class AbstractSolver implements Solver {
+    /** Разрядность кода направления в массиве предков */
+    protected static final int DIRECTION_BITS = 2;
+
     /**
-     * Восстанавливает путь от конечной точки до начальной по массиву предков.
+     * Восстанавливает путь от конечной точки до начальной по массиву направлений.
      *
      * <p>Метод работает следующим образом:
      *
      * <ol>
-     *   <li>Начинает с конечной точки и движется по цепочке предков
-     *   <li>Добавляет каждую точку в список в обратном порядке
-     *   <li>Разворачивает список для получения пути от начала до конца
+     *   <li>Начинает с конечной точки и шагает против направления, которым в нее пришли
+     *   <li>Записывает обратные шаги в упакованный путь от конечной точки к начальной
+     *   <li>Разворачивает путь для получения пути от начала до конца
      * </ol>
      *
-     * <p>Массив предков должен быть заполнен в процессе работы алгоритма так, что {@code parent[y][x]} содержит точку,
-     * из которой был достигнут {@link Point}. Для начальной точки значение в массиве должно быть {@code null}.
+     * <p>Массив направлений должен быть заполнен в процессе работы алгоритма так, что элемент {@link #index} точки
+     * содержит {@link Direction#ordinal()} шага, которым эта точка была достигнута из предка. Для начальной точки
+     * значение не используется.
+     *
+     * @param maze лабиринт, в котором искался путь
+     * @param directions массив кодов направлений разрядности {@link #DIRECTION_BITS}
+     * @param start начальная точка, на которой восстановление завершается
+     * @param end конечная точка, с которой начинается восстановление пути
+     * @return путь от начальной точки до конечной в правильном порядке
+     * @implNote Временная сложность: O(L), где L - длина пути. Объекты {@link Point} на шагах не создаются
+     */
+    protected Path traceBackPath(Maze maze, PackedArray directions, Point start, Point end) {
+        return traceBackPath(maze, index -> (int) directions.get(index), start, end);
+    }
+
+    /**
+     * Восстанавливает путь от конечной точки до начальной по кодам направлений, прочитанным функцией. Используется
+     * решателями, которые хранят направления не в {@link PackedArray}.
      *
-     * @param parent двумерный массив точек-предков для каждой ячейки лабиринта
+     * @param maze лабиринт, в котором искался путь
+     * @param directions код {@link Direction#ordinal()} шага в ячейку по ее индексу {@link #index}
+     * @param start начальная точка, на которой восстановление завершается
      * @param end конечная точка, с которой начинается восстановление пути
      * @return путь от начальной точки до конечной в правильном порядке
+     */
+    protected Path traceBackPath(Maze maze, LongToIntFunction directions, Point start, Point end) {
+        var backTrack = new Path.Builder(end);
+        int x = end.x();
+        int y = end.y();
+
+        while (x != start.x() || y != start.y()) {
+            Direction back = Direction.of(directions.applyAsInt((long) y * maze.width() + x)).opposite();
+            backTrack.append(back);
+            x += back.deltaX;
+            y += back.deltaY;
+        }
+
+        return backTrack.build().reversed();
+    }
+
+    /**
+     * Склеивает путь двунаправленного поиска из половин прямого и обратного поиска.
+     *
+     * <p>Прямой поиск шел от начальной точки и записывал направления шагов от предка к ячейке, обратный - от конечной
+     * точки и записывал направления шагов от своего предка, то есть в сторону от конечной точки. Путь составляется из
+     * цепочки прямого поиска от начальной точки до {@code forwardMeeting}, шага в соседнюю {@code backwardMeeting}
+     * (если точки встречи не совпадают) и цепочки обратного поиска от {@code backwardMeeting} до конечной точки.
+     *
+     * @param maze лабиринт, в котором искался путь
+     * @param forward коды направлений прямого поиска по индексу {@link #index}
+     * @param backward коды направлений обратного поиска по индексу {@link #index}
+     * @param start начальная точка
+     * @param forwardMeeting точка, достигнутая прямым поиском
+     * @param backwardMeeting та же или соседняя точка, достигнутая обратным поиском
+     * @param end конечная точка
+     * @return путь от начальной точки до конечной
      * @implNote Временная сложность: O(L), где L - длина пути
      */
-    protected Path traceBackPath(Point[][] parent, Point end) {
-        List<Point> backTrack = new ArrayList<>();
-        Point current = end;
+    protected Path splicePath(
+            Maze maze,
+            LongToIntFunction forward,
+            LongToIntFunction backward,
+            Point start,
+            Point forwardMeeting,
+            Point backwardMeeting,
+            Point end) {
+        Path head = traceBackPath(maze, forward, start, forwardMeeting);
+        var builder = new Path.Builder(start);
+        for (int step = 0; step < head.length() - 1; step++) {
+            builder.append(head.direction(step));
+        }
+
+        for (Direction direction : Direction.values()) {
+            if (forwardMeeting.x() + direction.deltaX == backwardMeeting.x()
+                    && forwardMeeting.y() + direction.deltaY == backwardMeeting.y()) {
+                builder.append(direction);
+            }
+        }
+
+        int x = backwardMeeting.x();
+        int y = backwardMeeting.y();
+        while (x != end.x() || y != end.y()) {
+            Direction step = Direction.of(backward.applyAsInt((long) y * maze.width() + x)).opposite();
+            builder.append(step);
+            x += step.deltaX;
+            y += step.deltaY;
+        }
 
-        while (current != null) {
-            backTrack.add(current);
-            current = parent[current.y()][current.x()];
+        return builder.build();
+    }
+
+    /**
+     * Выполняет шаги прямого и обратного поиска. Параллельно обратный шаг выполняется в {@link ForkJoinPool}, а прямой
+     * - в текущем потоке; после возврата результаты обоих шагов видны текущему потоку.
+     *
+     * @param parallel выполнять ли шаги в двух потоках
+     * @param forward шаг прямого поиска
+     * @param backward шаг обратного поиска
+     */
+    protected void expandFrontiers(boolean parallel, Runnable forward, Runnable backward) {
+        if (parallel) {
+            ForkJoinTask<?> task = ForkJoinTask.adapt(backward).fork();
+            forward.run();
+            task.join();
+        } else {
+            forward.run();
+            backward.run();
         }
+    }
 
-        Point[] path = new Point[backTrack.size()];
-        for (int i = 0; i < path.length; i++) path[i] = backTrack.get(path.length - 1 - i);
+    /**
+     * Создает заполненный нулями массив значений по одному на ячейку лабиринта в хранилище его сетки.
+     *
+     * @param maze лабиринт
+     * @param bitsPerValue разрядность значения
+     * @return новый массив размером {@code width * height}
+     */
+    protected PackedArray createCellArray(Maze maze, int bitsPerValue) {
+        return maze.cells().storage().newCellArray(maze.width(), maze.height(), bitsPerValue);
+    }
 
-        return new Path(path);
+    /**
+     * Вычисляет плоский 64-битный индекс точки в массивах, созданных {@link #createCellArray}.
+     *
+     * @param maze лабиринт
+     * @param point точка лабиринта
+     * @return индекс {@code y * width + x}
+     */
+    protected long index(Maze maze, Point point) {
+        return (long) point.y() * maze.width() + point.x();
     }
 
     protected boolean isValidTargetPoints(Maze maze, Point start, Point end) {
@@ -59,6 +177,6 @@ public abstract class AbstractSolver implements Solver {
                 && point.x() < maze.width()
                 && point.y() >= 0
                 && point.y() < maze.height()
-                && maze.cells()[point.y()][point.x()] == CellType.PASS;
+                && maze.cells().get(point.x(), point.y()) == CellType.PASS;
     }
 }
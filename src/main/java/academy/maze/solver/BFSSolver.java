@@ -5,10 +5,11 @@ import academy.maze.dto.Direction;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Path;
 import academy.maze.dto.Point;
+import academy.maze.grid.MazeGrid;
+import academy.maze.grid.PackedArray;
 import java.util.ArrayDeque;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.Queue;
-import java.util.Set;
 
 /**
  * Реализация алгоритма поиска в ширину (BFS) для нахождения пути в лабиринте.
@@ -16,7 +17,7 @@ import java.util.Set;
  * <p>Алгоритм работает следующим образом:
  *
  * <ol>
- *   <li>Инициализируется очередь и множество посещенных точек
+ *   <li>Инициализируются очередь, битовый массив посещенных точек и массив направлений к предкам
  *   <li>Начальная точка добавляется в очередь и помечается как посещенная
  *   <li>Пока очередь не пуста:
  *       <ul>
@@ -25,43 +26,148 @@ import java.util.Set;
  *         <li>Для каждого соседа текущей точки:
  *             <ul>
  *               <li>Если сосед - проход и еще не посещен - добавляется в очередь
- *               <li>Запоминается предок для восстановления пути
+ *               <li>Запоминается направление шага для восстановления пути
  *             </ul>
  *       </ul>
  * </ol>
+ *
+ * @implNote Лабиринты в куче до {@code 2^31} ячеек обходятся по плоским {@code int}-индексам в рабочих массивах потока
+ *     {@link SearchWorkspace}: очередь - кольцевой буфер {@code int[]}, посещенные ячейки - битовое множество, предки -
+ *     двухбитные коды направлений. Повторные поиски в потоке не выделяют память, кроме самого пути. Лабиринты вне кучи,
+ *     на диске или больше {@code 2^31} ячеек обходятся с массивами в хранилище сетки.
+ * @see #flood
  */
 public class BFSSolver extends AbstractSolver {
+    private static final Direction[] DIRECTIONS = Direction.getDirections();
+
     @Override
     public Path solve(Maze maze, Point start, Point end) {
         if (isValidTargetPoints(maze, start, end)) {
-            return new Path(new Point[0]);
+            return Path.empty();
+        }
+
+        return SearchWorkspace.supports(maze.cells())
+                ? solveInWorkspace(maze, start, end)
+                : solveInStorage(maze, start, end);
+    }
+
+    /**
+     * Обходит в ширину все ячейки, достижимые из начальной точки, и строит поле расстояний до них. Пути от начальной
+     * точки к любому числу конечных точек затем восстанавливаются по полю без повторного поиска.
+     *
+     * @param maze лабиринт
+     * @param source начальная точка
+     * @return поле расстояний от начальной точки
+     * @throws IllegalArgumentException если начальная точка непроходима или вне лабиринта, или лабиринт больше
+     *     {@code 2^31} ячеек
+     * @implNote Очередь берется из рабочих массивов потока {@link SearchWorkspace}; посещенными считаются ячейки с уже
+     *     записанным расстоянием, поэтому кроме самого поля (4 байта на ячейку) память не выделяется.
+     */
+    public DistanceField flood(Maze maze, Point source) {
+        if (maze.cells().cellCount() > SearchWorkspace.MAX_CELLS) {
+            throw new IllegalArgumentException("Maze is too large for a distance field");
+        }
+        if (isValidTargetPoints(maze, source, source)) {
+            throw new IllegalArgumentException("Source point must be a passable cell: " + source);
+        }
+
+        MazeGrid cells = maze.cells();
+        int width = maze.width();
+        int height = maze.height();
+        var distances = new int[width * height];
+        Arrays.fill(distances, DistanceField.UNREACHABLE);
+        SearchWorkspace workspace = SearchWorkspace.acquire(width * height);
+
+        int sourceCell = source.y() * width + source.x();
+        distances[sourceCell] = 0;
+        workspace.offer(sourceCell);
+
+        while (!workspace.isQueueEmpty()) {
+            int current = workspace.poll();
+            int y = current / width;
+            int x = current - y * width;
+            for (Direction direction : DIRECTIONS) {
+                int neighborX = x + direction.deltaX;
+                int neighborY = y + direction.deltaY;
+                if (neighborX < 0 || neighborX >= width || neighborY < 0 || neighborY >= height) continue;
+
+                int neighbor = current + direction.deltaY * width + direction.deltaX;
+                if (distances[neighbor] != DistanceField.UNREACHABLE
+                        || cells.get(neighborX, neighborY) != CellType.PASS) continue;
+
+                distances[neighbor] = distances[current] + 1;
+                workspace.offer(neighbor);
+            }
         }
 
+        return new DistanceField(width, height, source, distances);
+    }
+
+    private Path solveInWorkspace(Maze maze, Point start, Point end) {
+        MazeGrid cells = maze.cells();
+        int width = maze.width();
+        int height = maze.height();
+        SearchWorkspace workspace = SearchWorkspace.acquire(width * height);
+
+        int startCell = start.y() * width + start.x();
+        int endCell = end.y() * width + end.x();
+        workspace.visit(startCell);
+        workspace.offer(startCell);
+
+        while (!workspace.isQueueEmpty()) {
+            int current = workspace.poll();
+
+            if (current == endCell) {
+                return traceBackPath(maze, index -> workspace.direction((int) index), start, end);
+            }
+
+            int y = current / width;
+            int x = current - y * width;
+            for (Direction direction : DIRECTIONS) {
+                int neighborX = x + direction.deltaX;
+                int neighborY = y + direction.deltaY;
+                if (neighborX < 0 || neighborX >= width || neighborY < 0 || neighborY >= height) continue;
+
+                int neighbor = current + direction.deltaY * width + direction.deltaX;
+                if (!workspace.visit(neighbor) || cells.get(neighborX, neighborY) != CellType.PASS) continue;
+
+                workspace.setDirection(neighbor, direction.ordinal());
+                workspace.offer(neighbor);
+            }
+        }
+
+        return Path.empty();
+    }
+
+    private Path solveInStorage(Maze maze, Point start, Point end) {
         Queue<Point> queue = new ArrayDeque<>();
-        Set<Point> visited = new HashSet<>();
+        PackedArray visited = createCellArray(maze, 1);
+        PackedArray traceBackArray = createCellArray(maze, DIRECTION_BITS);
 
-        Point[][] traceBackArray = new Point[maze.height()][maze.width()];
         queue.add(start);
-        visited.add(start);
+        visited.set(index(maze, start), 1);
 
         while (!queue.isEmpty()) {
             Point current = queue.poll();
 
             if (current.equals(end)) {
-                return traceBackPath(traceBackArray, end);
+                return traceBackPath(maze, traceBackArray, start, end);
             }
 
-            for (Direction direction : Direction.getDirections()) {
+            for (Direction direction : DIRECTIONS) {
                 var neighbor = new Point(current.x() + direction.deltaX, current.y() + direction.deltaY);
+                long neighborIndex = index(maze, neighbor);
 
-                if (maze.cells()[neighbor.y()][neighbor.x()] != CellType.PASS || visited.contains(neighbor)) continue;
+                if (maze.cells().get(neighbor.x(), neighbor.y()) != CellType.PASS || visited.get(neighborIndex) != 0) {
+                    continue;
+                }
 
                 queue.add(neighbor);
-                visited.add(neighbor);
-                traceBackArray[neighbor.y()][neighbor.x()] = current;
+                visited.set(neighborIndex, 1);
+                traceBackArray.set(neighborIndex, direction.ordinal());
             }
         }
 
-        return new Path(new Point[0]);
+        return Path.empty();
     }
 }
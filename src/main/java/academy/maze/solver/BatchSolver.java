@@ -0,0 +1,127 @@
+package academy.maze.solver;
+
+import academy.maze.analysis.MazeAnalysis;
+import academy.maze.analysis.MazeAnalyzer;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Query;
+import academy.maze.grid.GridStorage;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Пакетное решение множества запросов к одному лабиринту.
+ *
+ * <p>Лабиринт загружается и анализируется один раз: связность всех пар проверяется за O(1) по разметке
+ * {@link MazeAnalysis}, и решатель запускается только для связанных точек. Запросы делятся на диапазоны, которые
+ * решаются параллельно как {@link RecursiveAction}; каждый поток пула работает со своими рабочими массивами решателя,
+ * а решатели, строящие индекс лабиринта ({@link JunctionGraphSolver}, {@link TreeSolver}), строят его один раз на все
+ * запросы. Для {@link JumpPointSolver} один раз строится таблица прыжков, если лабиринт хранится в куче: таблица
+ * занимает 16 байт на ячейку в куче, а хранилища вне кучи выбирают как раз для того, чтобы ее не занимать. Результаты
+ * передаются получателю по мере готовности, а не после решения всей пачки.
+ */
+public class BatchSolver {
+    /** Максимальное количество запросов в диапазоне, который решается в текущем потоке без деления */
+    private static final int BATCH_GRAIN = 16;
+
+    private final Solver solver;
+    private final ForkJoinPool pool;
+
+    /**
+     * Создает пакетный решатель, использующий общий пул потоков.
+     *
+     * @param solver решатель отдельных запросов. Должен допускать вызовы из нескольких потоков
+     */
+    public BatchSolver(Solver solver) {
+        this(solver, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Создает пакетный решатель, выполняющий запросы в указанном пуле потоков.
+     *
+     * @param solver решатель отдельных запросов. Должен допускать вызовы из нескольких потоков
+     * @param pool пул потоков
+     */
+    public BatchSolver(Solver solver, ForkJoinPool pool) {
+        this.solver = solver;
+        this.pool = pool;
+    }
+
+    /**
+     * Решает все запросы и передает результаты получателю по мере готовности. Порядок результатов не определен.
+     *
+     * @param maze лабиринт
+     * @param queries запросы
+     * @param results получатель результатов. Вызывается из потоков пула и должен быть потокобезопасным
+     */
+    public void solve(Maze maze, List<Query> queries, Consumer<Result> results) {
+        MazeAnalysis analysis =
+                maze.cells().cellCount() <= SearchWorkspace.MAX_CELLS ? new MazeAnalyzer().analyze(maze) : null;
+        pool.invoke(new Batch(prepare(maze, queries.size()), maze, analysis, queries, results, 0, queries.size()));
+    }
+
+    /** Подготавливает решатель к серии запросов к лабиринту. */
+    private Solver prepare(Maze maze, int queries) {
+        if (solver instanceof JumpPointSolver jumpPoints && queries > 1 && maze.cells().storage() == GridStorage.HEAP) {
+            return jumpPoints.precomputedFor(maze);
+        }
+
+        return solver;
+    }
+
+    /**
+     * Результат запроса.
+     *
+     * @param query запрос
+     * @param path найденный путь или пустой путь, если точки не связаны
+     */
+    public record Result(Query query, Path path) {}
+
+    /** Диапазон запросов {@code [from, to)}. */
+    private static final class Batch extends RecursiveAction {
+        private final Solver solver;
+        private final Maze maze;
+        private final MazeAnalysis analysis;
+        private final List<Query> queries;
+        private final Consumer<Result> results;
+        private final int from;
+        private final int to;
+
+        Batch(
+                Solver solver,
+                Maze maze,
+                MazeAnalysis analysis,
+                List<Query> queries,
+                Consumer<Result> results,
+                int from,
+                int to) {
+            this.solver = solver;
+            this.maze = maze;
+            this.analysis = analysis;
+            this.queries = queries;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > BATCH_GRAIN) {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                        new Batch(solver, maze, analysis, queries, results, from, middle),
+                        new Batch(solver, maze, analysis, queries, results, middle, to));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                Query query = queries.get(i);
+                boolean reachable = analysis == null || analysis.connected(query.start(), query.end());
+                Path path = reachable ? solver.solve(maze, query.start(), query.end()) : Path.empty();
+                results.accept(new Result(query, path));
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package academy.maze.solver;
+
+import academy.maze.dto.Direction;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.grid.MazeGrid;
+
+/**
+ * Реализация двунаправленного алгоритма A* для поиска кратчайшего пути в лабиринте.
+ *
+ * <p>Алгоритм работает следующим образом:
+ *
+ * <ol>
+ *   <li>A* запускается от начальной точки к конечной и от конечной к начальной, каждый со своей эвристикой
+ *       {@link #heuristic} до противоположной точки
+ *   <li>Поиски закрывают ячейки раундами; после раунда каждая закрытая ячейка и ее соседи проверяются на достижение
+ *       другим поиском, и лучшая сумма стоимостей через такую пару запоминается как длина найденного пути μ
+ *   <li>Поиск завершается, когда наименьшая оценка f(n) в очереди хотя бы одного направления не меньше μ: любой путь
+ *       короче должен был бы пройти через открытую ячейку этого направления с оценкой меньше μ
+ *   <li>Путь склеивается из половин обоих поисков с помощью {@link #splicePath}
+ * </ol>
+ *
+ * @implNote Эвристика должна быть согласованной, как манхэттенское расстояние. Поиски работают в двух наборах
+ *     рабочих массивов {@link SearchWorkspace} и в пределах раунда не читают массивов друг друга, поэтому в
+ *     параллельном режиме направления выполняются в двух потоках и синхронизируются только в конце раунда. Раунд
+ *     закрывает до {@value #ROUND_CELLS} ячеек с каждой стороны, что может лишь немного отложить завершение. Лабиринты
+ *     больше {@code 2^31} ячеек решаются однонаправленным A*.
+ */
+public class BidirectionalAStarSolver extends AStarSolver {
+    /** Количество ячеек, закрываемых каждым направлением за раунд */
+    private static final int ROUND_CELLS = 256;
+
+    private static final Direction[] DIRECTIONS = Direction.getDirections();
+
+    private final boolean parallel;
+
+    /** Создает решатель, выполняющий оба направления по очереди в текущем потоке. */
+    public BidirectionalAStarSolver() {
+        this(false);
+    }
+
+    /**
+     * Создает решатель.
+     *
+     * @param parallel выполнять ли прямой и обратный поиск в двух потоках
+     */
+    public BidirectionalAStarSolver(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    @Override
+    public Path solve(Maze maze, Point start, Point end) {
+        if (isValidTargetPoints(maze, start, end) || maze.cells().cellCount() > SearchWorkspace.MAX_CELLS) {
+            return super.solve(maze, start, end);
+        }
+
+        int width = maze.width();
+        int cellCount = width * maze.height();
+        var forward = new Search(maze.cells(), SearchWorkspace.acquire(cellCount), start, end);
+        var backward = new Search(maze.cells(), SearchWorkspace.acquireSecondary(cellCount), end, start);
+        var meeting = new Meeting();
+        meeting.check(forward, backward, start.y() * width + start.x(), false);
+
+        while (meeting.length > Math.max(forward.lowerBound(), backward.lowerBound())) {
+            expandFrontiers(parallel, forward::expand, backward::expand);
+
+            for (int i = 0; i < forward.closedCount; i++) {
+                meeting.check(forward, backward, forward.closed[i], false);
+            }
+            for (int i = 0; i < backward.closedCount; i++) {
+                meeting.check(backward, forward, backward.closed[i], true);
+            }
+        }
+
+        if (meeting.forwardCell < 0) {
+            return Path.empty();
+        }
+        return splicePath(
+                maze,
+                index -> forward.workspace.direction((int) index),
+                index -> backward.workspace.direction((int) index),
+                start,
+                new Point(meeting.forwardCell % width, meeting.forwardCell / width),
+                new Point(meeting.backwardCell % width, meeting.backwardCell / width),
+                end);
+    }
+
+    /** Лучшая найденная пара ячеек, через которую соединяются поиски. */
+    private static final class Meeting {
+        private int length = Integer.MAX_VALUE;
+        private int forwardCell = -1;
+        private int backwardCell = -1;
+
+        /**
+         * Проверяет пути через закрытую ячейку поиска {@code own} и ее соседей, достигнутых поиском {@code other}.
+         *
+         * @param reversed является ли {@code own} обратным поиском
+         */
+        void check(Search own, Search other, int cell, boolean reversed) {
+            MazeGrid cells = own.cells;
+            int width = cells.width();
+            int y = cell / width;
+            int x = cell - y * width;
+
+            offer(own, other, cell, cell, 0, reversed);
+            for (Direction direction : DIRECTIONS) {
+                int neighborX = x + direction.deltaX;
+                int neighborY = y + direction.deltaY;
+                if (neighborX < 0 || neighborX >= width || neighborY < 0 || neighborY >= cells.height()) continue;
+                if (cells.isWall(neighborX, neighborY)) continue;
+
+                offer(own, other, cell, cell + direction.deltaY * width + direction.deltaX, 1, reversed);
+            }
+        }
+
+        private void offer(Search own, Search other, int ownCell, int otherCell, int edge, boolean reversed) {
+            if (!other.workspace.isReached(otherCell)) {
+                return;
+            }
+
+            int candidate = own.workspace.cost(ownCell) + edge + other.workspace.cost(otherCell);
+            if (candidate < length) {
+                length = candidate;
+                forwardCell = reversed ? otherCell : ownCell;
+                backwardCell = reversed ? ownCell : otherCell;
+            }
+        }
+    }
+
+    /** Одно направление поиска A*. */
+    private final class Search {
+        private final MazeGrid cells;
+        private final SearchWorkspace workspace;
+        private final BucketQueue queue;
+        private final Point target;
+        private final int[] closed = new int[ROUND_CELLS];
+        private int closedCount;
+
+        Search(MazeGrid cells, SearchWorkspace workspace, Point origin, Point target) {
+            this.cells = cells;
+            this.workspace = workspace;
+            this.queue = workspace.buckets();
+            this.target = target;
+
+            int cell = origin.y() * cells.width() + origin.x();
+            workspace.prepareCosts(cells.width() * cells.height());
+            workspace.setCost(cell, 0);
+            queue.push(cell, heuristic(origin, target));
+        }
+
+        /** Нижняя оценка длины любого пути через еще не закрытые ячейки. */
+        int lowerBound() {
+            return queue.isEmpty() ? Integer.MAX_VALUE : queue.peekPriority();
+        }
+
+        /** Закрывает до {@link #ROUND_CELLS} ячеек с наименьшей оценкой. */
+        void expand() {
+            int width = cells.width();
+            int height = cells.height();
+            closedCount = 0;
+
+            while (closedCount < ROUND_CELLS && !queue.isEmpty()) {
+                int current = queue.poll();
+                if (!workspace.visit(current)) continue;
+                closed[closedCount++] = current;
+
+                int y = current / width;
+                int x = current - y * width;
+                int distance = workspace.cost(current) + 1;
+                for (Direction direction : DIRECTIONS) {
+                    int neighborX = x + direction.deltaX;
+                    int neighborY = y + direction.deltaY;
+                    if (neighborX < 0 || neighborX >= width || neighborY < 0 || neighborY >= height) continue;
+
+                    int neighbor = current + direction.deltaY * width + direction.deltaX;
+                    if (workspace.isVisited(neighbor) || cells.isWall(neighborX, neighborY)) continue;
+                    if (workspace.isReached(neighbor) && workspace.cost(neighbor) <= distance) continue;
+
+                    workspace.setCost(neighbor, distance);
+                    workspace.setDirection(neighbor, direction.ordinal());
+                    queue.push(neighbor, distance + heuristic(neighborX, neighborY, target));
+                }
+            }
+        }
+    }
+}
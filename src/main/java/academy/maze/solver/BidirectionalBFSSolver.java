@@ -0,0 +1,143 @@
+package academy.maze.solver;
+
+import academy.maze.dto.CellType;
+import academy.maze.dto.Direction;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.grid.MazeGrid;
+
+/**
+ * Реализация двунаправленного поиска в ширину для нахождения кратчайшего пути в лабиринте.
+ *
+ * <p>Алгоритм работает следующим образом:
+ *
+ * <ol>
+ *   <li>Поиск в ширину запускается одновременно от начальной и от конечной точки
+ *   <li>За раунд каждый поиск расширяет свой фронт ровно на один уровень, запоминая расстояние до каждой найденной
+ *       ячейки
+ *   <li>После раунда ячейки нового фронта прямого поиска проверяются на принадлежность обратному поиску; среди общих
+ *       ячеек выбирается ячейка с наименьшей суммой расстояний
+ *   <li>Путь склеивается из половин обоих поисков с помощью {@link #splicePath}
+ * </ol>
+ *
+ * <p>После раунда {@code r} оба поиска покрывают ячейки на расстоянии до {@code r}, поэтому первый раунд с общими
+ * ячейками - {@code ⌈D / 2⌉}, где D - длина кратчайшего пути, и ячейка кратчайшего пути на расстоянии {@code r} от
+ * начала лежит в новом фронте прямого поиска. Каждый поиск проходит примерно половину расстояния, и на лабиринтах с
+ * ветвлениями просматривается заметно меньше ячеек, чем при одностороннем поиске.
+ *
+ * @implNote Поиски работают в двух наборах рабочих массивов {@link SearchWorkspace} и в пределах раунда не читают
+ *     массивов друг друга, поэтому в параллельном режиме фронты расширяются в двух потоках без синхронизации, кроме
+ *     ожидания конца раунда. Поддерживаются лабиринты до {@code 2^31} ячеек; для больших используется
+ *     {@link BFSSolver}.
+ */
+public class BidirectionalBFSSolver extends AbstractSolver {
+    private static final Direction[] DIRECTIONS = Direction.getDirections();
+
+    private final boolean parallel;
+
+    /** Создает решатель, расширяющий фронты по очереди в текущем потоке. */
+    public BidirectionalBFSSolver() {
+        this(false);
+    }
+
+    /**
+     * Создает решатель.
+     *
+     * @param parallel расширять ли фронты прямого и обратного поиска в двух потоках
+     */
+    public BidirectionalBFSSolver(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    @Override
+    public Path solve(Maze maze, Point start, Point end) {
+        if (isValidTargetPoints(maze, start, end)) {
+            return Path.empty();
+        }
+        if (maze.cells().cellCount() > SearchWorkspace.MAX_CELLS) {
+            return new BFSSolver().solve(maze, start, end);
+        }
+        if (start.equals(end)) {
+            return Path.of(start);
+        }
+
+        int width = maze.width();
+        int cellCount = width * maze.height();
+        var forward = new Frontier(maze.cells(), SearchWorkspace.acquire(cellCount), start);
+        var backward = new Frontier(maze.cells(), SearchWorkspace.acquireSecondary(cellCount), end);
+
+        while (!forward.workspace.isQueueEmpty() && !backward.workspace.isQueueEmpty()) {
+            expandFrontiers(parallel, forward::expandLevel, backward::expandLevel);
+
+            int meeting = -1;
+            int best = Integer.MAX_VALUE;
+            for (int i = 0; i < forward.workspace.queueSize(); i++) {
+                int cell = forward.workspace.queued(i);
+                if (backward.workspace.isVisited(cell)) {
+                    int length = forward.workspace.cost(cell) + backward.workspace.cost(cell);
+                    if (length < best) {
+                        best = length;
+                        meeting = cell;
+                    }
+                }
+            }
+
+            if (meeting >= 0) {
+                var point = new Point(meeting % width, meeting / width);
+                return splicePath(
+                        maze,
+                        index -> forward.workspace.direction((int) index),
+                        index -> backward.workspace.direction((int) index),
+                        start,
+                        point,
+                        point,
+                        end);
+            }
+        }
+
+        return Path.empty();
+    }
+
+    /** Фронт поиска в ширину от одной из точек. */
+    private static final class Frontier {
+        private final MazeGrid cells;
+        private final SearchWorkspace workspace;
+
+        Frontier(MazeGrid cells, SearchWorkspace workspace, Point origin) {
+            this.cells = cells;
+            this.workspace = workspace;
+
+            int cell = origin.y() * cells.width() + origin.x();
+            workspace.prepareCosts(cells.width() * cells.height());
+            workspace.visit(cell);
+            workspace.setCost(cell, 0);
+            workspace.offer(cell);
+        }
+
+        /** Заменяет ячейки фронта их непосещенными соседями. */
+        void expandLevel() {
+            int width = cells.width();
+            int height = cells.height();
+            for (int remaining = workspace.queueSize(); remaining > 0; remaining--) {
+                int current = workspace.poll();
+                int y = current / width;
+                int x = current - y * width;
+                int distance = workspace.cost(current) + 1;
+
+                for (Direction direction : DIRECTIONS) {
+                    int neighborX = x + direction.deltaX;
+                    int neighborY = y + direction.deltaY;
+                    if (neighborX < 0 || neighborX >= width || neighborY < 0 || neighborY >= height) continue;
+
+                    int neighbor = current + direction.deltaY * width + direction.deltaX;
+                    if (!workspace.visit(neighbor) || cells.get(neighborX, neighborY) != CellType.PASS) continue;
+
+                    workspace.setCost(neighbor, distance);
+                    workspace.setDirection(neighbor, direction.ordinal());
+                    workspace.offer(neighbor);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package academy.maze.solver;
+
+import java.util.Arrays;
+
+/**
+ * Монотонная очередь с приоритетом на корзинах (очередь Дейкстры-Дайала) для целых приоритетов, которые растут
+ * небольшими шагами.
+ *
+ * <p>Корзины образуют кольцо по {@code priority mod capacity}, и в каждый момент в очереди лежат приоритеты из окна
+ * {@code [min, min + capacity)}. Вставка и извлечение выполняются за O(1) амортизированно, а поиск следующей непустой
+ * корзины - за длину шага приоритета. В корзине значения хранятся стеком, поэтому среди равных приоритетов первым
+ * извлекается добавленный последним.
+ *
+ * <p>Для A* с манхэттенской эвристикой на единичной сетке приоритет соседа больше текущего на 0 или 2, для Дейкстры -
+ * на 1, поэтому хватает четырех корзин. Если приоритет выходит за окно, кольцо расширяется. Приоритет меньше
+ * последнего извлеченного (несогласованная эвристика) помещается в корзину минимума.
+ */
+final class BucketQueue {
+    private static final int INITIAL_BUCKETS = 4;
+    private static final int INITIAL_BUCKET_CAPACITY = 16;
+
+    private int[][] buckets = new int[INITIAL_BUCKETS][INITIAL_BUCKET_CAPACITY];
+    private int[] sizes = new int[INITIAL_BUCKETS];
+    private int min;
+    private int max;
+    private int count;
+
+    /** Задан ли {@link #min} с последней очистки */
+    private boolean started;
+
+    /** Извлекалось ли значение с последней очистки. До первого извлечения минимум может уменьшаться */
+    private boolean polled;
+
+    /** Удаляет все значения, сохраняя выделенные корзины. */
+    void clear() {
+        Arrays.fill(sizes, 0);
+        count = 0;
+        started = false;
+        polled = false;
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Добавляет значение с указанным приоритетом.
+     *
+     * @param value значение
+     * @param priority приоритет; меньший извлекается раньше
+     */
+    void push(int value, int priority) {
+        if (!started) {
+            min = priority;
+            max = priority;
+            started = true;
+        } else if (priority < min && (count == 0 || !polled)) {
+            if (count > 0 && max - priority >= buckets.length) {
+                grow(max - priority + 1);
+            }
+            min = priority;
+        } else if (priority < min) {
+            priority = min;
+        }
+        if (priority - min >= buckets.length) {
+            grow(priority - min + 1);
+        }
+        max = count == 0 ? priority : Math.max(max, priority);
+
+        int bucket = priority & buckets.length - 1;
+        if (sizes[bucket] == buckets[bucket].length) {
+            buckets[bucket] = Arrays.copyOf(buckets[bucket], sizes[bucket] * 2);
+        }
+        buckets[bucket][sizes[bucket]++] = value;
+        count++;
+    }
+
+    /**
+     * Извлекает значение с наименьшим приоритетом. Очередь не должна быть пустой.
+     *
+     * @return значение с наименьшим приоритетом
+     */
+    int poll() {
+        int bucket = peekPriority() & buckets.length - 1;
+        polled = true;
+        count--;
+        return buckets[bucket][--sizes[bucket]];
+    }
+
+    /**
+     * Возвращает наименьший приоритет в очереди, не извлекая значение. Очередь не должна быть пустой.
+     *
+     * @return приоритет значения, которое вернет {@link #poll()}
+     */
+    int peekPriority() {
+        while (sizes[min & buckets.length - 1] == 0) {
+            min++;
+        }
+
+        return min;
+    }
+
+    /** Расширяет кольцо до степени двойки не меньше {@code window}, переставляя корзины по их приоритетам. */
+    private void grow(int window) {
+        int capacity = Integer.highestOneBit(window - 1) << 1;
+        var grownBuckets = new int[capacity][];
+        var grownSizes = new int[capacity];
+        for (int offset = 0; offset < buckets.length; offset++) {
+            int from = min + offset & buckets.length - 1;
+            int to = min + offset & capacity - 1;
+            grownBuckets[to] = buckets[from];
+            grownSizes[to] = sizes[from];
+        }
+        for (int bucket = 0; bucket < capacity; bucket++) {
+            if (grownBuckets[bucket] == null) {
+                grownBuckets[bucket] = new int[INITIAL_BUCKET_CAPACITY];
+            }
+        }
+
+        buckets = grownBuckets;
+        sizes = grownSizes;
+    }
+}
@@ -12,14 +12,15 @@ public class DijkstraSolver extends AStarSolver {
     /**
      * Нулевая эвристическая функция, превращающая A* в алгоритм Дейкстры.
      *
-     * @param a первая точка (игнорируется)
-     * @param b вторая точка (игнорируется)
+     * @param x координата X ячейки (игнорируется)
+     * @param y координата Y ячейки (игнорируется)
+     * @param end целевая точка (игнорируется)
      * @return всегда 0, что делает эвристику нейтральной
      * @implNote Для алгоритма Дейкстры эвристика не требуется, так как он основывается исключительно на фактической
      *     стоимости пути.
      */
     @Override
-    protected int heuristic(Point a, Point b) {
+    protected int heuristic(int x, int y, Point end) {
         return 0;
     }
 }
@@ -0,0 +1,173 @@
+package academy.maze.solver;
+
+import academy.maze.dto.Direction;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Поле расстояний от одной начальной точки до всех ячеек лабиринта. Строится {@link BFSSolver#flood}.
+ *
+ * <p>Для каждой ячейки хранится длина кратчайшего пути от начальной точки в шагах или {@code -1}, если ячейка
+ * непроходима или недостижима. Предки не хранятся отдельно: предок ячейки на расстоянии {@code d} - любой сосед на
+ * расстоянии {@code d - 1}, поэтому путь к любой ячейке восстанавливается по одному полю без лабиринта и без поиска.
+ *
+ * <p>Поле сохраняется в двоичный файл и читается обратно: заголовок из сигнатуры {@code MZDF}, версии формата, ширины,
+ * высоты и координат начальной точки, затем расстояния по строкам. Все числа - 32-битные, в порядке big-endian.
+ * Поле неизменяемо и может использоваться из любого числа потоков.
+ */
+public final class DistanceField {
+    /** Сигнатура файла поля: {@code MZDF} */
+    private static final int MAGIC = 0x4D5A4446;
+
+    private static final int VERSION = 1;
+
+    /** Расстояние до непроходимых и недостижимых ячеек */
+    public static final int UNREACHABLE = -1;
+
+    private static final Direction[] DIRECTIONS = Direction.getDirections();
+
+    private final int width;
+    private final int height;
+    private final Point source;
+    private final int[] distances;
+
+    DistanceField(int width, int height, Point source, int[] distances) {
+        this.width = width;
+        this.height = height;
+        this.source = source;
+        this.distances = distances;
+    }
+
+    /**
+     * Читает поле из двоичного потока в формате {@link #write}.
+     *
+     * @param in поток с полем
+     * @return прочитанное поле
+     * @throws IOException если поток не содержит поля или произошла ошибка чтения
+     */
+    public static DistanceField read(InputStream in) throws IOException {
+        var data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+            throw new IOException("Not a distance field file");
+        }
+
+        int width = data.readInt();
+        int height = data.readInt();
+        var source = new Point(data.readInt(), data.readInt());
+        if (width <= 0 || height <= 0 || (long) width * height > SearchWorkspace.MAX_CELLS) {
+            throw new IOException("Invalid distance field size: " + width + "x" + height);
+        }
+
+        var distances = new int[width * height];
+        for (int cell = 0; cell < distances.length; cell++) {
+            distances[cell] = data.readInt();
+        }
+
+        return new DistanceField(width, height, source, distances);
+    }
+
+    /**
+     * Записывает поле в двоичный поток. Поток не закрывается.
+     *
+     * @param out поток для записи
+     * @throws IOException если произошла ошибка записи
+     */
+    public void write(OutputStream out) throws IOException {
+        var data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(width);
+        data.writeInt(height);
+        data.writeInt(source.x());
+        data.writeInt(source.y());
+        for (int distance : distances) {
+            data.writeInt(distance);
+        }
+        data.flush();
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Возвращает начальную точку поля.
+     *
+     * @return точка, от которой отсчитываются расстояния
+     */
+    public Point source() {
+        return source;
+    }
+
+    /**
+     * Возвращает расстояние от начальной точки.
+     *
+     * @param point точка
+     * @return количество шагов или {@link #UNREACHABLE}, если точка непроходима, недостижима или вне лабиринта
+     */
+    public int distance(Point point) {
+        if (point.x() < 0 || point.x() >= width || point.y() < 0 || point.y() >= height) {
+            return UNREACHABLE;
+        }
+
+        return distances[point.y() * width + point.x()];
+    }
+
+    /**
+     * Возвращает расстояния до всех ячеек по строкам: индекс ячейки {@code (x, y)} - {@code y * width + x}. Массив не
+     * копируется, чтобы поле больших лабиринтов можно было передавать, например, в рендерер тепловой карты; изменять
+     * его нельзя.
+     *
+     * @return массив расстояний
+     */
+    public int[] distances() {
+        return distances;
+    }
+
+    /**
+     * Восстанавливает кратчайший путь от начальной точки без поиска.
+     *
+     * @param target конечная точка
+     * @return путь от начальной точки до конечной или пустой путь, если точка недостижима
+     */
+    public Path pathTo(Point target) {
+        int distance = distance(target);
+        if (distance == UNREACHABLE) {
+            return Path.empty();
+        }
+
+        var backTrack = new Path.Builder(target);
+        int x = target.x();
+        int y = target.y();
+        while (distance > 0) {
+            for (Direction direction : DIRECTIONS) {
+                int neighborX = x + direction.deltaX;
+                int neighborY = y + direction.deltaY;
+                if (neighborX >= 0
+                        && neighborX < width
+                        && neighborY >= 0
+                        && neighborY < height
+                        && distances[neighborY * width + neighborX] == distance - 1) {
+                    backTrack.append(direction);
+                    x = neighborX;
+                    y = neighborY;
+                    break;
+                }
+            }
+            distance--;
+        }
+
+        return backTrack.build().reversed();
+    }
+}
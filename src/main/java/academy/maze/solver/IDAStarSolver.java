@@ -0,0 +1,246 @@
+package academy.maze.solver;
+
+import academy.maze.dto.CellType;
+import academy.maze.dto.Direction;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.grid.MazeGrid;
+import java.util.Arrays;
+
+/**
+ * Реализация алгоритма IDA* (A* с итеративным углублением) для поиска кратчайшего пути при ограниченной памяти.
+ *
+ * <p>Алгоритм работает следующим образом:
+ *
+ * <ol>
+ *   <li>Порог оценки f(n) = g(n) + h(n) устанавливается равным эвристике начальной точки
+ *   <li>Поиск в глубину от начальной точки обходит только узлы с f(n) не больше порога и не возвращается в предка
+ *   <li>Если конечная точка достигнута - путь берется из стека поиска
+ *   <li>Иначе порог увеличивается до наименьшей оценки f(n), превысившей его, и поиск повторяется
+ * </ol>
+ *
+ * <p>В отличие от {@link AStarSolver}, память не зависит от площади лабиринта: стек поиска занимает два байта на шаг
+ * пути. Платой служит время - каждая итерация заново обходит узлы предыдущей, а число итераций растет с разницей между
+ * длиной пути и манхэттенским расстоянием между точками. Решатель предназначен для лабиринтов, которые не помещаются в
+ * память вместе с массивами обычного поиска.
+ *
+ * <p>В лабиринтах с циклами поиск в глубину без памяти о посещенных узлах проходит одни и те же ячейки по разным путям
+ * экспоненциальное число раз. Для этого используется необязательная таблица транспозиций фиксированного размера: она
+ * хранит наименьшую стоимость g(n), с которой ячейка достигалась на текущей итерации, и отсекает повторные заходы с не
+ * меньшей стоимостью. При коллизии запись вытесняется, поэтому таблица любого размера не влияет на длину пути, а лишь
+ * сокращает число повторных обходов. Таблица, намного меньшая области поиска, почти не отсекает повторы, и
+ * время поиска в лабиринтах с циклами снова растет экспоненциально; в идеальных лабиринтах таблица не нужна.
+ *
+ * @implNote В качестве эвристики используется манхэттенское расстояние. Ячейки адресуются 64-битными индексами, поэтому
+ *     решатель работает с лабиринтами любого размера. Таблица транспозиций с прямой адресацией занимает 16 байт на
+ *     запись и создается на каждый поиск размером не больше ближайшей степени двойки к количеству ячеек лабиринта;
+ *     записи прошлых итераций отличаются номером итерации и не очищаются.
+ */
+public class IDAStarSolver extends AbstractSolver {
+    /** Количество записей таблицы транспозиций по умолчанию (4 MiB) */
+    private static final int TABLE_CAPACITY = 1 << 18;
+
+    /** Результат итерации, на которой конечная точка достигнута */
+    private static final long FOUND = -1;
+
+    private static final Direction[] DIRECTIONS = Direction.getDirections();
+
+    private final int tableCapacity;
+
+    /** Создает решатель с таблицей транспозиций размером по умолчанию. */
+    public IDAStarSolver() {
+        this(TABLE_CAPACITY);
+    }
+
+    /**
+     * Создает решатель с таблицей транспозиций указанного размера.
+     *
+     * @param tableCapacity наибольшее количество записей таблицы транспозиций, {@code 0} - без таблицы. Округляется
+     *     вниз до степени двойки
+     * @throws IllegalArgumentException если tableCapacity < 0
+     */
+    public IDAStarSolver(int tableCapacity) {
+        if (tableCapacity < 0) {
+            throw new IllegalArgumentException("Transposition table capacity must not be negative");
+        }
+
+        this.tableCapacity = tableCapacity;
+    }
+
+    @Override
+    public Path solve(Maze maze, Point start, Point end) {
+        if (isValidTargetPoints(maze, start, end)) {
+            return Path.empty();
+        }
+
+        return new Search(maze, start, end).run();
+    }
+
+    /** Состояние одного поиска. */
+    private final class Search {
+        private final MazeGrid cells;
+        private final int width;
+        private final int height;
+        private final Point start;
+        private final Point end;
+        private final TranspositionTable table;
+
+        /** Стоимость, которой не может достигать кратчайший путь: он проходит каждую ячейку не больше раза */
+        private final long maxCost;
+
+        /** Код направления шага, которым достигнут узел на каждой глубине */
+        private byte[] steps = new byte[64];
+
+        /** Код следующего проверяемого направления на каждой глубине */
+        private byte[] next = new byte[64];
+
+        private int depth;
+
+        Search(Maze maze, Point start, Point end) {
+            this.cells = maze.cells();
+            this.width = maze.width();
+            this.height = maze.height();
+            this.start = start;
+            this.end = end;
+            this.maxCost = cells.cellCount();
+
+            int capacity = Integer.highestOneBit(tableCapacity);
+            while (capacity / 2 >= cells.cellCount()) {
+                capacity /= 2;
+            }
+            this.table = capacity == 0 ? null : new TranspositionTable(capacity);
+        }
+
+        Path run() {
+            long threshold = heuristic(start.x(), start.y());
+            for (int iteration = 1; ; iteration++) {
+                long nextThreshold = search(threshold, iteration);
+                if (nextThreshold == FOUND) {
+                    return path();
+                }
+                if (nextThreshold == Long.MAX_VALUE) {
+                    return Path.empty();
+                }
+                threshold = nextThreshold;
+            }
+        }
+
+        /**
+         * Выполняет одну итерацию поиска в глубину с заданным порогом.
+         *
+         * @return {@link #FOUND}, если конечная точка достигнута, иначе наименьшая оценка, превысившая порог, или
+         *     {@link Long#MAX_VALUE}, если таких оценок нет
+         */
+        private long search(long threshold, int iteration) {
+            long nextThreshold = Long.MAX_VALUE;
+            int x = start.x();
+            int y = start.y();
+            depth = 0;
+            next[0] = 0;
+            if (table != null) {
+                table.offer(index(x, y), 0, iteration);
+            }
+
+            while (true) {
+                if (x == end.x() && y == end.y()) {
+                    return FOUND;
+                }
+
+                if (next[depth] == DIRECTIONS.length) {
+                    if (depth == 0) {
+                        return nextThreshold;
+                    }
+                    Direction back = DIRECTIONS[steps[depth--]];
+                    x -= back.deltaX;
+                    y -= back.deltaY;
+                    continue;
+                }
+
+                Direction direction = DIRECTIONS[next[depth]++];
+                if (depth > 0 && direction.opposite().ordinal() == steps[depth]) continue;
+
+                int neighborX = x + direction.deltaX;
+                int neighborY = y + direction.deltaY;
+                if (neighborX < 0 || neighborX >= width || neighborY < 0 || neighborY >= height) continue;
+                if (cells.get(neighborX, neighborY) != CellType.PASS) continue;
+
+                int cost = depth + 1;
+                if (cost >= maxCost) continue;
+                if (table != null && !table.offer(index(neighborX, neighborY), cost, iteration)) continue;
+
+                long estimate = cost + heuristic(neighborX, neighborY);
+                if (estimate > threshold) {
+                    nextThreshold = Math.min(nextThreshold, estimate);
+                    continue;
+                }
+
+                push(direction);
+                x = neighborX;
+                y = neighborY;
+            }
+        }
+
+        private void push(Direction direction) {
+            depth++;
+            if (depth == steps.length) {
+                steps = Arrays.copyOf(steps, depth * 2);
+                next = Arrays.copyOf(next, depth * 2);
+            }
+            steps[depth] = (byte) direction.ordinal();
+            next[depth] = 0;
+        }
+
+        private Path path() {
+            var builder = new Path.Builder(start);
+            for (int i = 1; i <= depth; i++) {
+                builder.append(DIRECTIONS[steps[i]]);
+            }
+
+            return builder.build();
+        }
+
+        private long heuristic(int x, int y) {
+            return (long) Math.abs(end.x() - x) + Math.abs(end.y() - y);
+        }
+
+        private long index(int x, int y) {
+            return (long) y * width + x;
+        }
+    }
+
+    /**
+     * Таблица транспозиций с прямой адресацией: наименьшая стоимость достижения ячейки на текущей итерации. Запись с
+     * другим номером итерации считается пустой.
+     */
+    private static final class TranspositionTable {
+        private final long[] keys;
+        private final int[] costs;
+        private final int[] iterations;
+        private final int mask;
+
+        TranspositionTable(int capacity) {
+            this.keys = new long[capacity];
+            this.costs = new int[capacity];
+            this.iterations = new int[capacity];
+            this.mask = capacity - 1;
+        }
+
+        /**
+         * Запоминает стоимость достижения ячейки, вытесняя запись другой ячейки при коллизии.
+         *
+         * @return {@code false}, если ячейка уже достигалась на этой итерации с не большей стоимостью
+         */
+        boolean offer(long key, int cost, int iteration) {
+            int slot = (int) (key * 0x9E3779B97F4A7C15L >>> 32) & mask;
+            if (iterations[slot] == iteration && keys[slot] == key && costs[slot] <= cost) {
+                return false;
+            }
+
+            keys[slot] = key;
+            costs[slot] = cost;
+            iterations[slot] = iteration;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package academy.maze.solver;
+
+import academy.maze.dto.Direction;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.grid.MazeGrid;
+
+/**
+ * Реализация поиска с прыжками по точкам (Jump Point Search) для сетки с четырьмя направлениями движения.
+ *
+ * <p>Поиск - это A* по точкам прыжка: вместо каждой ячейки прямого участка в очередь попадает только ячейка, на
+ * которой кратчайший путь может повернуть. Среди равных по длине путей рассматриваются лишь канонические: вертикальный
+ * участок может свернуть в любой ячейке, а горизонтальный - только там, где поворот вынужден:
+ *
+ * <ul>
+ *   <li>При горизонтальном прыжке ячейка - точка прыжка, если над или под ней проход, а над или под предыдущей ячейкой
+ *       стена: обойти стену раньше нельзя
+ *   <li>При вертикальном прыжке ячейка - точка прыжка, если горизонтальный прыжок из нее в одну из сторон находит точку
+ *       прыжка
+ *   <li>Конечная точка всегда точка прыжка
+ * </ul>
+ *
+ * <p>Точка прыжка, достигнутая по горизонтали, продолжает движение по горизонтали и поворачивает только в вынужденные
+ * стороны; достигнутая по вертикали - продолжает по вертикали и поворачивает в обе горизонтальные стороны. В лабиринтах
+ * с длинными коридорами и на открытых участках это сокращает количество операций с очередью в разы по сравнению с
+ * {@link AStarSolver}.
+ *
+ * <p>Для повторных запросов к одному лабиринту {@link #precomputed(Maze)} заранее вычисляет для каждой ячейки и
+ * направления расстояние до ближайшей точки прыжка или стены, и прыжок выполняется за O(1) вместо прохода по ячейкам.
+ * {@link BatchSolver} строит таблицу сам, если лабиринт хранится в куче.
+ *
+ * @implNote Точки прыжка хранят только направление прихода. Путь восстанавливается шагами против этого направления до
+ *     ячейки со стоимостью, равной стоимости точки за вычетом пройденных шагов. Поддерживаются лабиринты до
+ *     {@code 2^31} ячеек; для больших используется {@link AStarSolver}.
+ */
+public class JumpPointSolver extends AStarSolver {
+    private static final Direction[] DIRECTIONS = Direction.getDirections();
+
+    /** Таблица прыжков или {@code null}, если прыжки вычисляются проходом по ячейкам */
+    private final JumpTable table;
+
+    /** Создает решатель, вычисляющий прыжки проходом по ячейкам. */
+    public JumpPointSolver() {
+        this.table = null;
+    }
+
+    private JumpPointSolver(JumpTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Создает решатель с предвычисленной таблицей прыжков для указанного лабиринта. Другие лабиринты решаются без
+     * таблицы.
+     *
+     * @param maze лабиринт, для которого строится таблица
+     * @return решатель с таблицей прыжков
+     * @throws IllegalArgumentException если лабиринт больше {@code 2^31} ячеек
+     * @implNote Таблица занимает 16 байт на ячейку и строится за O(width × height)
+     */
+    public static JumpPointSolver precomputed(Maze maze) {
+        if (maze.cells().cellCount() > SearchWorkspace.MAX_CELLS) {
+            throw new IllegalArgumentException("Maze is too large for a jump table");
+        }
+
+        return new JumpPointSolver(new JumpTable(maze.cells()));
+    }
+
+    /**
+     * Возвращает решатель с таблицей прыжков для указанного лабиринта: этот же, если таблица уже построена для него,
+     * иначе новый. Лабиринты больше {@code 2^31} ячеек таблицу не поддерживают и решаются этим решателем.
+     *
+     * @param maze лабиринт серии запросов
+     * @return решатель с таблицей прыжков, если она поддерживается
+     */
+    JumpPointSolver precomputedFor(Maze maze) {
+        if (table != null && table.cells == maze.cells() || maze.cells().cellCount() > SearchWorkspace.MAX_CELLS) {
+            return this;
+        }
+
+        return precomputed(maze);
+    }
+
+    @Override
+    public Path solve(Maze maze, Point start, Point end) {
+        if (isValidTargetPoints(maze, start, end) || maze.cells().cellCount() > SearchWorkspace.MAX_CELLS) {
+            return super.solve(maze, start, end);
+        }
+
+        var search = new Search(maze.cells(), end, table != null && table.cells == maze.cells() ? table : null);
+        return search.run(start);
+    }
+
+    /** Поиск одного пути. */
+    private final class Search {
+        private final MazeGrid cells;
+        private final int width;
+        private final int height;
+        private final Point end;
+        private final int endCell;
+        private final JumpTable table;
+        private final SearchWorkspace workspace;
+
+        Search(MazeGrid cells, Point end, JumpTable table) {
+            this.cells = cells;
+            this.width = cells.width();
+            this.height = cells.height();
+            this.end = end;
+            this.endCell = end.y() * width + end.x();
+            this.table = table;
+            this.workspace = SearchWorkspace.acquire(width * height);
+            workspace.prepareCosts(width * height);
+        }
+
+        Path run(Point start) {
+            BucketQueue queue = workspace.buckets();
+            int startCell = start.y() * width + start.x();
+            workspace.setCost(startCell, 0);
+            queue.push(startCell, heuristic(start, end));
+
+            while (!queue.isEmpty()) {
+                int current = queue.poll();
+                if (!workspace.visit(current)) continue;
+
+                if (current == endCell) {
+                    return traceBack(start);
+                }
+
+                int y = current / width;
+                int x = current - y * width;
+                for (Direction direction : DIRECTIONS) {
+                    if (isSuccessor(current, x, y, direction, startCell)) {
+                        int jump = direction.deltaX != 0
+                                ? jumpHorizontal(x, y, direction.deltaX)
+                                : jumpVertical(x, y, direction.deltaY);
+                        if (jump >= 0) {
+                            relax(current, jump, direction, queue);
+                        }
+                    }
+                }
+            }
+
+            return Path.empty();
+        }
+
+        /** Проверяет, продолжается ли канонический путь из точки прыжка в указанном направлении. */
+        private boolean isSuccessor(int cell, int x, int y, Direction direction, int startCell) {
+            if (cell == startCell) {
+                return true;
+            }
+
+            Direction arrival = Direction.of(workspace.direction(cell));
+            if (direction == arrival.opposite()) {
+                return false;
+            }
+            if (arrival.deltaY != 0 || direction.deltaX != 0) {
+                return true;
+            }
+
+            int behindX = x - arrival.deltaX;
+            return isFree(x, y + direction.deltaY) && !isFree(behindX, y + direction.deltaY);
+        }
+
+        private void relax(int from, int to, Direction direction, BucketQueue queue) {
+            if (workspace.isVisited(to)) {
+                return;
+            }
+
+            int distance = workspace.cost(from) + Math.abs(to - from) / (direction.deltaX != 0 ? 1 : width);
+            if (workspace.isReached(to) && workspace.cost(to) <= distance) {
+                return;
+            }
+
+            workspace.setCost(to, distance);
+            workspace.setDirection(to, direction.ordinal());
+            queue.push(to, distance + heuristic(to % width, to / width, end));
+        }
+
+        /**
+         * Прыгает по горизонтали до точки прыжка.
+         *
+         * @return индекс точки прыжка или {@code -1}, если ряд закончился стеной
+         */
+        private int jumpHorizontal(int x, int y, int deltaX) {
+            if (table != null) {
+                int jump = table.horizontal(deltaX)[y * width + x];
+                int reach = Math.abs(jump);
+                int toEnd = (end.x() - x) * deltaX;
+                if (end.y() == y && toEnd > 0 && toEnd <= reach) {
+                    return endCell;
+                }
+                return jump > 0 ? y * width + x + deltaX * jump : -1;
+            }
+
+            while (true) {
+                x += deltaX;
+                if (!isFree(x, y)) {
+                    return -1;
+                }
+
+                int cell = y * width + x;
+                if (cell == endCell || isForced(x, y, deltaX)) {
+                    return cell;
+                }
+            }
+        }
+
+        /**
+         * Прыгает по вертикали до ячейки, из которой горизонтальный прыжок находит точку прыжка.
+         *
+         * @return индекс точки прыжка или {@code -1}, если столбец закончился стеной
+         */
+        private int jumpVertical(int x, int y, int deltaY) {
+            if (table != null) {
+                int jump = table.vertical(deltaY)[y * width + x];
+                int reach = Math.abs(jump);
+                int stop = jump > 0 ? jump : Integer.MAX_VALUE;
+
+                int toEndRow = (end.y() - y) * deltaY;
+                if (toEndRow > 0 && toEndRow <= reach && toEndRow < stop) {
+                    int rowCell = end.y() * width + x;
+                    int toEnd = end.x() - x;
+                    if (toEnd == 0 || Math.abs(table.horizontal(Integer.signum(toEnd))[rowCell]) >= Math.abs(toEnd)) {
+                        stop = toEndRow;
+                    }
+                }
+                return stop == Integer.MAX_VALUE ? -1 : (y + deltaY * stop) * width + x;
+            }
+
+            while (true) {
+                y += deltaY;
+                if (!isFree(x, y)) {
+                    return -1;
+                }
+
+                int cell = y * width + x;
+                if (cell == endCell || jumpHorizontal(x, y, 1) >= 0 || jumpHorizontal(x, y, -1) >= 0) {
+                    return cell;
+                }
+            }
+        }
+
+        private boolean isForced(int x, int y, int deltaX) {
+            return isFree(x, y - 1) && !isFree(x - deltaX, y - 1) || isFree(x, y + 1) && !isFree(x - deltaX, y + 1);
+        }
+
+        private boolean isFree(int x, int y) {
+            return x >= 0 && x < width && y >= 0 && y < height && !cells.isWall(x, y);
+        }
+
+        /** Восстанавливает путь, проходя прыжки в обратном направлении. */
+        private Path traceBack(Point start) {
+            var backTrack = new Path.Builder(end);
+            int cell = endCell;
+            int startCell = start.y() * width + start.x();
+
+            while (cell != startCell) {
+                Direction back = Direction.of(workspace.direction(cell)).opposite();
+                int cost = workspace.cost(cell);
+                int step = back.deltaY * width + back.deltaX;
+                int steps = 0;
+                do {
+                    backTrack.append(back);
+                    cell += step;
+                    steps++;
+                } while (!workspace.isReached(cell) || workspace.cost(cell) != cost - steps);
+            }
+
+            return backTrack.build().reversed();
+        }
+    }
+
+    /**
+     * Предвычисленные прыжки для каждой ячейки и направления. Положительное значение {@code k} - точка прыжка через
+     * {@code k} шагов; неположительное {@code -m} - точки прыжка нет, а до стены {@code m} проходимых ячеек. Прыжки к
+     * конечной точке зависят от запроса и проверяются отдельно.
+     */
+    private static final class JumpTable {
+        private final MazeGrid cells;
+        private final int[] left;
+        private final int[] right;
+        private final int[] up;
+        private final int[] down;
+
+        JumpTable(MazeGrid cells) {
+            this.cells = cells;
+            int width = cells.width();
+            int height = cells.height();
+            left = new int[width * height];
+            right = new int[width * height];
+            up = new int[width * height];
+            down = new int[width * height];
+
+            for (int y = 0; y < height; y++) {
+                for (int x = width - 2; x >= 0; x--) {
+                    right[y * width + x] = next(right, y * width + x + 1, isFree(x + 1, y), isForced(x + 1, y, 1));
+                }
+                for (int x = 1; x < width; x++) {
+                    left[y * width + x] = next(left, y * width + x - 1, isFree(x - 1, y), isForced(x - 1, y, -1));
+                }
+            }
+            for (int x = 0; x < width; x++) {
+                for (int y = height - 2; y >= 0; y--) {
+                    int below = (y + 1) * width + x;
+                    down[y * width + x] = next(down, below, isFree(x, y + 1), left[below] > 0 || right[below] > 0);
+                }
+                for (int y = 1; y < height; y++) {
+                    int above = (y - 1) * width + x;
+                    up[y * width + x] = next(up, above, isFree(x, y - 1), left[above] > 0 || right[above] > 0);
+                }
+            }
+        }
+
+        int[] horizontal(int deltaX) {
+            return deltaX > 0 ? right : left;
+        }
+
+        int[] vertical(int deltaY) {
+            return deltaY > 0 ? down : up;
+        }
+
+        /** Вычисляет прыжок ячейки по прыжку соседней ячейки в том же направлении. */
+        private static int next(int[] jumps, int neighbor, boolean free, boolean jumpPoint) {
+            if (!free) {
+                return 0;
+            }
+            if (jumpPoint) {
+                return 1;
+            }
+
+            int jump = jumps[neighbor];
+            return jump > 0 ? jump + 1 : jump - 1;
+        }
+
+        private boolean isForced(int x, int y, int deltaX) {
+            return isFree(x, y - 1) && !isFree(x - deltaX, y - 1) || isFree(x, y + 1) && !isFree(x - deltaX, y + 1);
+        }
+
+        private boolean isFree(int x, int y) {
+            return x >= 0 && x < cells.width() && y >= 0 && y < cells.height() && !cells.isWall(x, y);
+        }
+    }
+}
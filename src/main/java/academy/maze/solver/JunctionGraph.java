@@ -0,0 +1,420 @@
+package academy.maze.solver;
+
+import academy.maze.dto.Direction;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.grid.MazeGrid;
+import java.util.Arrays;
+
+/**
+ * Взвешенный граф перекрестков лабиринта, в котором каждый коридор сжат в одно ребро.
+ *
+ * <p>Вершины графа - проходимые ячейки, у которых не ровно два проходимых соседа: перекрестки, тупики и изолированные
+ * ячейки. В циклах без перекрестков вершиной назначается первая по порядку ячейка цикла. Остальные проходимые ячейки
+ * лежат в коридорах: ребро соединяет вершины на концах коридора, его вес - длина коридора в шагах, а ячейки коридора
+ * хранятся по порядку, поэтому путь по графу разворачивается обратно в путь по сетке.
+ *
+ * <p>Граф хранится в формате CSR (compressed sparse row) на плоских массивах:
+ *
+ * <ul>
+ *   <li>{@code offsets[v]..offsets[v + 1]} - ребра вершины {@code v}, по одному на каждого проходимого соседа в
+ *       порядке {@link Direction}
+ *   <li>{@code targets[e]}, {@code weights[e]} - конец и вес ребра
+ *   <li>{@code corridors[e]} - номер коридора ребра; отрицательное значение {@code ~c} означает, что коридор {@code c}
+ *       проходится в обратном порядке
+ *   <li>{@code corridorOffsets[c]..corridorOffsets[c + 1]} - ячейки коридора в {@code corridorCells}
+ * </ul>
+ *
+ * <p>Каждый коридор хранится один раз для обоих направлений ребра. Ячейки задаются плоским индексом
+ * {@code y * width + x}, вершина по ячейке находится двоичным поиском по упорядоченным ячейкам вершин, поэтому граф не
+ * хранит массивов размером с сетку.
+ *
+ * <p>Граф строится один раз за O(width × height) и неизменяем, поэтому его можно использовать из любого числа потоков.
+ * В сгенерированных лабиринтах большинство ячеек лежат в коридорах, и граф в несколько раз меньше сетки.
+ */
+public final class JunctionGraph {
+    private static final Direction[] DIRECTIONS = Direction.getDirections();
+
+    private final Maze maze;
+    private final MazeGrid cells;
+    private final int width;
+    private final int height;
+
+    /** Ячейки вершин по возрастанию */
+    private final int[] nodeCells;
+
+    /** Ячейки вершин, назначенных в циклах без перекрестков, по возрастанию */
+    private final int[] cycleNodes;
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final int[] corridors;
+    private final int[] corridorOffsets;
+    private final int[] corridorCells;
+
+    private JunctionGraph(Maze maze) {
+        this.maze = maze;
+        this.cells = maze.cells();
+        this.width = cells.width();
+        this.height = cells.height();
+
+        var covered = new long[(int) (((long) width * height + Long.SIZE - 1) / Long.SIZE)];
+        this.cycleNodes = findCycleNodes(covered);
+
+        int nodeCount = 0;
+        int edgeCount = 0;
+        for (int cell = 0; cell < width * height; cell++) {
+            if (isPassable(cell) && isNode(cell)) {
+                nodeCount++;
+                edgeCount += degree(cell);
+            }
+        }
+
+        this.nodeCells = new int[nodeCount];
+        this.offsets = new int[nodeCount + 1];
+        for (int cell = 0, node = 0; cell < width * height; cell++) {
+            if (isPassable(cell) && isNode(cell)) {
+                nodeCells[node] = cell;
+                offsets[node + 1] = offsets[node] + degree(cell);
+                node++;
+            }
+        }
+
+        this.targets = new int[edgeCount];
+        this.weights = new int[edgeCount];
+        this.corridors = new int[edgeCount];
+        this.corridorOffsets = new int[edgeCount / 2 + 1];
+        this.corridorCells = new int[countPassable() - nodeCount];
+        Arrays.fill(covered, 0);
+        buildEdges(covered);
+    }
+
+    /**
+     * Строит граф перекрестков лабиринта.
+     *
+     * @param maze лабиринт
+     * @return граф перекрестков
+     * @throws IllegalArgumentException если лабиринт больше {@code 2^31} ячеек
+     */
+    public static JunctionGraph of(Maze maze) {
+        if (maze.cells().cellCount() > SearchWorkspace.MAX_CELLS) {
+            throw new IllegalArgumentException("Maze is too large for a junction graph");
+        }
+
+        return new JunctionGraph(maze);
+    }
+
+    /**
+     * Возвращает лабиринт, по которому построен граф.
+     *
+     * @return исходный лабиринт
+     */
+    public Maze maze() {
+        return maze;
+    }
+
+    /**
+     * Возвращает количество вершин графа.
+     *
+     * @return количество перекрестков, тупиков и изолированных ячеек
+     */
+    public int nodeCount() {
+        return nodeCells.length;
+    }
+
+    /**
+     * Возвращает количество ребер графа.
+     *
+     * @return количество коридоров, каждый из которых соединяет две вершины
+     */
+    public int edgeCount() {
+        return targets.length / 2;
+    }
+
+    /** Проверяет, построен ли граф по указанной сетке. */
+    boolean isBuiltFor(MazeGrid grid) {
+        return cells == grid;
+    }
+
+    int width() {
+        return width;
+    }
+
+    /** Возвращает номер вершины в ячейке или отрицательное число, если ячейка лежит в коридоре. */
+    int node(int cell) {
+        return Arrays.binarySearch(nodeCells, cell);
+    }
+
+    int cell(int node) {
+        return nodeCells[node];
+    }
+
+    int firstEdge(int node) {
+        return offsets[node];
+    }
+
+    int lastEdge(int node) {
+        return offsets[node + 1];
+    }
+
+    int target(int edge) {
+        return targets[edge];
+    }
+
+    int weight(int edge) {
+        return weights[edge];
+    }
+
+    /**
+     * Находит выходы из ячейки к вершинам графа. Для вершины это сама вершина, для ячейки коридора - вершины на обоих
+     * концах коридора.
+     *
+     * @param cell ячейка
+     * @param stop ячейка, на которой проход по коридору тоже останавливается, или {@code -1}
+     * @return выходы из ячейки
+     */
+    Walk[] exits(int cell, int stop) {
+        if (isNode(cell)) {
+            return new Walk[] {new Walk(cell, null, cell, 0, null)};
+        }
+
+        var exits = new Walk[2];
+        int found = 0;
+        for (Direction direction : DIRECTIONS) {
+            if (isPassable(cell, direction)) {
+                exits[found++] = walk(cell, direction, stop, null);
+            }
+        }
+
+        return exits;
+    }
+
+    /**
+     * Проходит по коридору от ячейки в указанном направлении до вершины или ячейки {@code stop}.
+     *
+     * @param cell начальная ячейка
+     * @param first направление первого шага
+     * @param stop ячейка, на которой проход тоже останавливается, или {@code -1}
+     * @param builder построитель пути, в который добавляются шаги, или {@code null}
+     * @return результат прохода
+     */
+    Walk walk(int cell, Direction first, int stop, Path.Builder builder) {
+        Direction direction = first;
+        int current = cell;
+        int steps = 0;
+        while (true) {
+            current += offset(direction);
+            steps++;
+            if (builder != null) {
+                builder.append(direction);
+            }
+            if (current == stop || isNode(current)) {
+                return new Walk(cell, first, current, steps, direction);
+            }
+
+            Direction back = direction.opposite();
+            for (Direction next : DIRECTIONS) {
+                if (next != back && isPassable(current, next)) {
+                    direction = next;
+                    break;
+                }
+            }
+        }
+    }
+
+    /** Добавляет в путь шаги ребра, выходящего из вершины {@code from}. */
+    void appendEdge(Path.Builder builder, int from, int edge) {
+        int corridor = corridors[edge];
+        int previous = nodeCells[from];
+        if (corridor >= 0) {
+            for (int i = corridorOffsets[corridor]; i < corridorOffsets[corridor + 1]; i++) {
+                previous = appendStep(builder, previous, corridorCells[i]);
+            }
+        } else {
+            for (int i = corridorOffsets[~corridor + 1] - 1; i >= corridorOffsets[~corridor]; i--) {
+                previous = appendStep(builder, previous, corridorCells[i]);
+            }
+        }
+        appendStep(builder, previous, nodeCells[targets[edge]]);
+    }
+
+    /** Находит циклы без перекрестков и назначает в каждом вершину. */
+    private int[] findCycleNodes(long[] covered) {
+        for (int cell = 0; cell < width * height; cell++) {
+            if (isPassable(cell) && degree(cell) != 2) {
+                for (Direction direction : DIRECTIONS) {
+                    if (isPassable(cell, direction)) {
+                        cover(covered, cell, direction);
+                    }
+                }
+            }
+        }
+
+        var cycles = new int[16];
+        int count = 0;
+        for (int cell = 0; cell < width * height; cell++) {
+            if (isPassable(cell) && degree(cell) == 2 && (covered[cell / Long.SIZE] & 1L << cell) == 0) {
+                if (count == cycles.length) {
+                    cycles = Arrays.copyOf(cycles, count * 2);
+                }
+                cycles[count++] = cell;
+                covered[cell / Long.SIZE] |= 1L << cell;
+                for (Direction direction : DIRECTIONS) {
+                    if (isPassable(cell, direction)) {
+                        cover(covered, cell, direction);
+                        break;
+                    }
+                }
+            }
+        }
+
+        return Arrays.copyOf(cycles, count);
+    }
+
+    /** Отмечает ячейки коридора от ячейки в указанном направлении до ячейки с другим числом соседей или до начала. */
+    private void cover(long[] covered, int cell, Direction direction) {
+        int current = cell + offset(direction);
+        while (current != cell && degree(current) == 2 && (covered[current / Long.SIZE] & 1L << current) == 0) {
+            covered[current / Long.SIZE] |= 1L << current;
+            Direction back = direction.opposite();
+            for (Direction next : DIRECTIONS) {
+                if (next != back && isPassable(current, next)) {
+                    direction = next;
+                    break;
+                }
+            }
+            current += offset(direction);
+        }
+    }
+
+    /** Заполняет ребра, проходя каждый коридор один раз. */
+    private void buildEdges(long[] covered) {
+        int corridor = 0;
+        int filled = 0;
+        for (int node = 0; node < nodeCells.length; node++) {
+            int cell = nodeCells[node];
+            for (Direction direction : DIRECTIONS) {
+                if (!isPassable(cell, direction)) {
+                    continue;
+                }
+                int first = cell + offset(direction);
+                if (!isNode(first) && (covered[first / Long.SIZE] & 1L << first) != 0) {
+                    continue;
+                }
+
+                int previous = cell;
+                int current = first;
+                Direction arrival = direction;
+                while (!isNode(current)) {
+                    covered[current / Long.SIZE] |= 1L << current;
+                    corridorCells[filled++] = current;
+                    for (Direction next : DIRECTIONS) {
+                        if (next != arrival.opposite() && isPassable(current, next)) {
+                            arrival = next;
+                            break;
+                        }
+                    }
+                    previous = current;
+                    current += offset(arrival);
+                }
+
+                int target = node(current);
+                Direction back = arrival.opposite();
+                if (previous == cell && target * 4 + back.ordinal() < node * 4 + direction.ordinal()) {
+                    continue;
+                }
+
+                int forward = edge(node, direction);
+                int reverse = edge(target, back);
+                int weight = filled - corridorOffsets[corridor] + 1;
+                targets[forward] = target;
+                weights[forward] = weight;
+                corridors[forward] = corridor;
+                targets[reverse] = node;
+                weights[reverse] = weight;
+                corridors[reverse] = ~corridor;
+                corridorOffsets[++corridor] = filled;
+            }
+        }
+    }
+
+    /** Возвращает индекс ребра вершины в указанном направлении. */
+    private int edge(int node, Direction direction) {
+        int edge = offsets[node];
+        int cell = nodeCells[node];
+        for (Direction other : DIRECTIONS) {
+            if (other == direction) {
+                return edge;
+            }
+            if (isPassable(cell, other)) {
+                edge++;
+            }
+        }
+
+        throw new IllegalStateException("Unknown direction: " + direction);
+    }
+
+    private int appendStep(Path.Builder builder, int from, int to) {
+        int delta = to - from;
+        for (Direction direction : DIRECTIONS) {
+            if (offset(direction) == delta) {
+                builder.append(direction);
+                break;
+            }
+        }
+
+        return to;
+    }
+
+    private boolean isNode(int cell) {
+        return degree(cell) != 2 || Arrays.binarySearch(cycleNodes, cell) >= 0;
+    }
+
+    private int degree(int cell) {
+        int degree = 0;
+        for (Direction direction : DIRECTIONS) {
+            if (isPassable(cell, direction)) {
+                degree++;
+            }
+        }
+
+        return degree;
+    }
+
+    private int countPassable() {
+        int count = 0;
+        for (int cell = 0; cell < width * height; cell++) {
+            if (isPassable(cell)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private int offset(Direction direction) {
+        return direction.deltaY * width + direction.deltaX;
+    }
+
+    private boolean isPassable(int cell) {
+        return !cells.isWall(cell % width, cell / width);
+    }
+
+    private boolean isPassable(int cell, Direction direction) {
+        int x = cell % width + direction.deltaX;
+        int y = cell / width + direction.deltaY;
+        return x >= 0 && x < width && y >= 0 && y < height && !cells.isWall(x, y);
+    }
+
+    /**
+     * Результат прохода по коридору.
+     *
+     * @param from ячейка, с которой начат проход
+     * @param direction направление первого шага или {@code null}, если ячейка сама является вершиной
+     * @param cell ячейка, на которой проход остановился
+     * @param steps количество шагов
+     * @param arrival направление последнего шага или {@code null}, если ячейка сама является вершиной
+     */
+    record Walk(int from, Direction direction, int cell, int steps, Direction arrival) {}
+}
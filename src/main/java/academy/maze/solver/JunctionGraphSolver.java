@@ -0,0 +1,174 @@
+package academy.maze.solver;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.solver.JunctionGraph.Walk;
+
+/**
+ * Решатель, ищущий путь по графу перекрестков {@link JunctionGraph} вместо сетки.
+ *
+ * <p>Поиск выполняется алгоритмом A* по вершинам графа:
+ *
+ * <ol>
+ *   <li>Начальная ячейка коридора выходит к вершинам на обоих концах коридора, их стоимости - длины участков коридора
+ *   <li>Вершины с ребрами-коридорами раскрываются в порядке {@code g + h}, где h - манхэттенское расстояние до
+ *       конечной точки
+ *   <li>Конечная точка достигается через вершины на концах своего коридора; если обе точки лежат в одном коридоре,
+ *       учитывается и прямой путь по нему
+ *   <li>Поиск останавливается, когда наименьший приоритет в очереди не меньше лучшего найденного пути
+ *   <li>Путь по ребрам разворачивается в путь по сетке по сохраненным ячейкам коридоров
+ * </ol>
+ *
+ * <p>Граф строится при первом решении лабиринта и переиспользуется, пока решаются пути в том же лабиринте. Построение
+ * стоит одного обхода сетки, а каждый следующий поиск проходит только перекрестки. Если первые запросы приходят из
+ * нескольких потоков одновременно, граф строит только один из них.
+ *
+ * @implNote Стоимости хранятся в рабочих массивах потока {@link SearchWorkspace} по номерам вершин, очередь -
+ *     {@link BucketQueue}. Родительские ребра не хранятся: предок вершины находится среди ее соседей по равенству
+ *     стоимостей. Лабиринты больше {@code 2^31} ячеек решаются {@link AStarSolver}.
+ */
+public class JunctionGraphSolver extends AbstractSolver {
+    /** Граф последнего решенного лабиринта */
+    private volatile JunctionGraph graph;
+
+    /** Создает решатель, строящий граф при первом решении каждого лабиринта. */
+    public JunctionGraphSolver() {}
+
+    /**
+     * Создает решатель с заранее построенным графом. Другие лабиринты решаются с построением своего графа.
+     *
+     * @param graph граф перекрестков
+     */
+    public JunctionGraphSolver(JunctionGraph graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    public Path solve(Maze maze, Point start, Point end) {
+        if (isValidTargetPoints(maze, start, end)) {
+            return Path.empty();
+        }
+        if (maze.cells().cellCount() > SearchWorkspace.MAX_CELLS) {
+            return new AStarSolver().solve(maze, start, end);
+        }
+        if (start.equals(end)) {
+            return new Path.Builder(start).build();
+        }
+
+        JunctionGraph current = graph;
+        if (current == null || !current.isBuiltFor(maze.cells())) {
+            synchronized (this) {
+                current = graph;
+                if (current == null || !current.isBuiltFor(maze.cells())) {
+                    current = JunctionGraph.of(maze);
+                    graph = current;
+                }
+            }
+        }
+
+        return search(current, start, end);
+    }
+
+    private Path search(JunctionGraph graph, Point start, Point end) {
+        int width = graph.width();
+        int startCell = start.y() * width + start.x();
+        int endCell = end.y() * width + end.x();
+        Walk[] sources = graph.exits(startCell, endCell);
+        Walk[] targets = graph.exits(endCell, -1);
+
+        var workspace = SearchWorkspace.acquire(graph.nodeCount());
+        workspace.prepareCosts(graph.nodeCount());
+        BucketQueue queue = workspace.buckets();
+
+        int best = Integer.MAX_VALUE;
+        Walk direct = null;
+        for (Walk source : sources) {
+            if (source.cell() == endCell) {
+                if (source.steps() < best) {
+                    direct = source;
+                    best = source.steps();
+                }
+                continue;
+            }
+            int node = graph.node(source.cell());
+            if (!workspace.isReached(node) || workspace.cost(node) > source.steps()) {
+                workspace.setCost(node, source.steps());
+                queue.push(node, source.steps() + heuristic(graph, node, end));
+            }
+        }
+
+        Walk target = null;
+        while (!queue.isEmpty() && queue.peekPriority() < best) {
+            int node = queue.poll();
+            if (!workspace.visit(node)) continue;
+
+            int cost = workspace.cost(node);
+            for (Walk exit : targets) {
+                if (exit.cell() == graph.cell(node) && cost + exit.steps() < best) {
+                    best = cost + exit.steps();
+                    target = exit;
+                    direct = null;
+                }
+            }
+
+            for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+                int neighbor = graph.target(edge);
+                int distance = cost + graph.weight(edge);
+                if (workspace.isVisited(neighbor)
+                        || workspace.isReached(neighbor) && workspace.cost(neighbor) <= distance) {
+                    continue;
+                }
+                workspace.setCost(neighbor, distance);
+                queue.push(neighbor, distance + heuristic(graph, neighbor, end));
+            }
+        }
+
+        if (direct != null) {
+            var builder = new Path.Builder(start);
+            graph.walk(startCell, direct.direction(), endCell, builder);
+            return builder.build();
+        }
+        if (target == null) {
+            return Path.empty();
+        }
+
+        return traceBack(graph, workspace, sources, target, startCell, end);
+    }
+
+    /** Восстанавливает путь от конечной точки к начальной по равенству стоимостей соседних вершин. */
+    private Path traceBack(
+            JunctionGraph graph, SearchWorkspace workspace, Walk[] sources, Walk target, int startCell, Point end) {
+        var backTrack = new Path.Builder(end);
+        if (target.direction() != null) {
+            graph.walk(target.from(), target.direction(), -1, backTrack);
+        }
+
+        int node = graph.node(target.cell());
+        while (true) {
+            int cost = workspace.cost(node);
+            for (Walk source : sources) {
+                if (source.cell() == graph.cell(node) && source.steps() == cost) {
+                    if (source.arrival() != null) {
+                        graph.walk(source.cell(), source.arrival().opposite(), startCell, backTrack);
+                    }
+                    return backTrack.build().reversed();
+                }
+            }
+
+            for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+                int neighbor = graph.target(edge);
+                if (workspace.isReached(neighbor) && workspace.cost(neighbor) + graph.weight(edge) == cost) {
+                    graph.appendEdge(backTrack, node, edge);
+                    node = neighbor;
+                    break;
+                }
+            }
+        }
+    }
+
+    private int heuristic(JunctionGraph graph, int node, Point end) {
+        int cell = graph.cell(node);
+        return Math.abs(cell % graph.width() - end.x()) + Math.abs(cell / graph.width() - end.y());
+    }
+}
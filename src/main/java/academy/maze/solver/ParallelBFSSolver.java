@@ -0,0 +1,365 @@
+package academy.maze.solver;
+
+import academy.maze.dto.CellType;
+import academy.maze.dto.Direction;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.grid.MazeGrid;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Параллельный поиск в ширину по уровням для очень больших лабиринтов.
+ *
+ * <p>Уровень BFS - все ячейки на одном расстоянии от начальной точки - раскрывается целиком несколькими потоками, после
+ * чего потоки синхронизируются и раскрывается следующий уровень. Уровень раскрывается одним из двух способов:
+ *
+ * <ul>
+ *   <li><b>Сверху вниз</b>: фронт - список ячеек, делится на части по {@code grain} ячеек. Каждая задача обходит
+ *       соседей своих ячеек, захватывает непосещенные атомарной установкой бита в битовом множестве посещенных и
+ *       складывает их в собственный буфер следующего фронта; буферы склеиваются после уровня
+ *   <li><b>Снизу вверх</b>: фронт - битовое множество. Каждая задача владеет диапазоном слов битового множества
+ *       посещенных и для каждой непосещенной ячейки ищет соседа во фронте. Ячейки захватываются без атомарных операций,
+ *       так как слово принадлежит одной задаче
+ * </ul>
+ *
+ * <p>Раскрытие сверху вниз дешевле при малом фронте, снизу вверх - когда фронт сравним с числом непосещенных ячеек
+ * (открытые области и лабиринты с циклами). Поиск переключается снизу вверх, когда фронт больше {@code 1/ALPHA}
+ * непосещенных ячеек, и обратно - когда фронт меньше {@code 1/BETA} всех ячеек (direction-optimizing BFS). Фронт
+ * меньше {@code grain} ячеек раскрывается в текущем потоке без задач, поэтому узкие коридоры идеальных лабиринтов не
+ * платят за синхронизацию.
+ *
+ * <p>Длина найденного пути совпадает с {@link BFSSolver}, но при нескольких кратчайших путях выбор между ними зависит
+ * от порядка захвата ячеек потоками.
+ *
+ * @implNote Память: бит посещения, два бита фронтов и байт направления к предку на ячейку. Стены, встреченные при
+ *     раскрытии снизу вверх, помечаются посещенными, чтобы не проверять их на следующих уровнях. Лабиринты больше
+ *     {@code 2^31} ячеек решаются последовательным {@link BFSSolver}.
+ */
+public class ParallelBFSSolver extends AbstractSolver {
+    /** Количество ячеек фронта на одну задачу по умолчанию */
+    private static final int GRAIN = 1 << 12;
+
+    /** Поиск переключается снизу вверх, когда фронт больше этой доли непосещенных ячеек */
+    private static final int ALPHA = 14;
+
+    /** Поиск переключается сверху вниз, когда фронт меньше этой доли всех ячеек */
+    private static final int BETA = 24;
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private static final Direction[] DIRECTIONS = Direction.getDirections();
+
+    private final int grain;
+    private final ForkJoinPool pool;
+
+    /** Создает решатель, использующий общий пул потоков. */
+    public ParallelBFSSolver() {
+        this(GRAIN, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Создает решатель, раскрывающий уровни в указанном пуле потоков.
+     *
+     * @param grain количество ячеек фронта на одну задачу и минимальный размер фронта для параллельного раскрытия
+     * @param pool пул потоков
+     * @throws IllegalArgumentException если grain < 1
+     */
+    public ParallelBFSSolver(int grain, ForkJoinPool pool) {
+        if (grain < 1) {
+            throw new IllegalArgumentException("Grain must be bigger than zero");
+        }
+
+        this.grain = grain;
+        this.pool = pool;
+    }
+
+    @Override
+    public Path solve(Maze maze, Point start, Point end) {
+        if (isValidTargetPoints(maze, start, end)) {
+            return Path.empty();
+        }
+        if (maze.cells().cellCount() > SearchWorkspace.MAX_CELLS) {
+            return new BFSSolver().solve(maze, start, end);
+        }
+
+        var search = new Search(maze);
+        int width = maze.width();
+        byte[] directions = search.run(start.y() * width + start.x(), end.y() * width + end.x());
+        return directions == null ? Path.empty() : traceBackPath(maze, index -> directions[(int) index], start, end);
+    }
+
+    /** Состояние одного поиска. */
+    private final class Search {
+        private final MazeGrid cells;
+        private final int width;
+        private final int height;
+        private final int cellCount;
+        private final int wordCount;
+
+        /** Посещенные ячейки. Сверху вниз биты устанавливаются атомарно, снизу вверх - владельцем слова */
+        private final long[] visited;
+
+        /** Направление шага от предка к ячейке, записывается захватившей ячейку задачей */
+        private final byte[] directions;
+
+        /** Фронт сверху вниз и его размер */
+        private int[] frontier = new int[1];
+
+        private int frontierSize;
+
+        /** Буферы следующего фронта по номеру задачи и их размеры */
+        private int[][] buffers = new int[1][];
+
+        private int[] bufferSizes = new int[1];
+
+        /** Фронт и следующий фронт снизу вверх. {@code null}, пока поиск не переключался снизу вверх */
+        private long[] frontierBits;
+
+        private long[] nextBits;
+
+        Search(Maze maze) {
+            this.cells = maze.cells();
+            this.width = maze.width();
+            this.height = maze.height();
+            this.cellCount = width * height;
+            this.wordCount = (cellCount + Long.SIZE - 1) / Long.SIZE;
+            this.visited = new long[wordCount];
+            this.directions = new byte[cellCount];
+        }
+
+        /**
+         * Раскрывает уровни, пока не будет достигнута конечная ячейка.
+         *
+         * @return направления к предкам или {@code null}, если конечная ячейка недостижима
+         */
+        byte[] run(int startCell, int endCell) {
+            visited[startCell >>> 6] |= 1L << startCell;
+            frontier[0] = startCell;
+            frontierSize = 1;
+            long visitedCount = 1;
+            boolean bottomUp = false;
+
+            while (frontierSize > 0 && !isVisited(endCell)) {
+                if (!bottomUp && frontierSize > (cellCount - visitedCount) / ALPHA) {
+                    toBits();
+                    bottomUp = true;
+                } else if (bottomUp && frontierSize < cellCount / BETA) {
+                    toList();
+                    bottomUp = false;
+                }
+
+                frontierSize = bottomUp ? expandBottomUp() : expandTopDown();
+                visitedCount += frontierSize;
+            }
+
+            return isVisited(endCell) ? directions : null;
+        }
+
+        private int expandTopDown() {
+            int tasks = (frontierSize + grain - 1) / grain;
+            if (buffers.length < tasks) {
+                buffers = Arrays.copyOf(buffers, tasks);
+                bufferSizes = new int[tasks];
+            }
+            if (tasks == 1) {
+                expandTopDown(0);
+            } else {
+                pool.invoke(new TopDown(0, tasks));
+            }
+
+            int size = 0;
+            for (int task = 0; task < tasks; task++) {
+                size += bufferSizes[task];
+            }
+            if (frontier.length < size) {
+                frontier = new int[Math.max(size, frontier.length * 2)];
+            }
+            int offset = 0;
+            for (int task = 0; task < tasks; task++) {
+                System.arraycopy(buffers[task], 0, frontier, offset, bufferSizes[task]);
+                offset += bufferSizes[task];
+            }
+
+            return size;
+        }
+
+        /** Раскрывает часть фронта сверху вниз в буфер задачи. */
+        private void expandTopDown(int task) {
+            int from = task * grain;
+            int to = Math.min(frontierSize, from + grain);
+            int[] buffer = buffers[task];
+            if (buffer == null) {
+                buffer = new int[Math.min(grain * 2, cellCount)];
+            }
+            int size = 0;
+
+            for (int i = from; i < to; i++) {
+                int current = frontier[i];
+                int y = current / width;
+                int x = current - y * width;
+                for (Direction direction : DIRECTIONS) {
+                    int neighborX = x + direction.deltaX;
+                    int neighborY = y + direction.deltaY;
+                    if (neighborX < 0 || neighborX >= width || neighborY < 0 || neighborY >= height) continue;
+
+                    int neighbor = current + direction.deltaY * width + direction.deltaX;
+                    if (isVisited(neighbor) || cells.get(neighborX, neighborY) != CellType.PASS || !claim(neighbor)) {
+                        continue;
+                    }
+
+                    directions[neighbor] = (byte) direction.ordinal();
+                    if (size == buffer.length) {
+                        buffer = Arrays.copyOf(buffer, size * 2);
+                    }
+                    buffer[size++] = neighbor;
+                }
+            }
+
+            buffers[task] = buffer;
+            bufferSizes[task] = size;
+        }
+
+        private int expandBottomUp() {
+            int tasks = (wordCount + grain - 1) / grain;
+            int size = tasks == 1 ? expandBottomUp(0, wordCount) : pool.invoke(new BottomUp(0, tasks));
+
+            long[] bits = frontierBits;
+            frontierBits = nextBits;
+            nextBits = bits;
+            return size;
+        }
+
+        /** Раскрывает снизу вверх ячейки слов {@code [fromWord, toWord)} и возвращает количество захваченных. */
+        private int expandBottomUp(int fromWord, int toWord) {
+            int size = 0;
+            for (int word = fromWord; word < toWord; word++) {
+                long visitedWord = visited[word];
+                long unvisited = ~visitedWord;
+                if (word == wordCount - 1 && cellCount % Long.SIZE != 0) {
+                    unvisited &= (1L << cellCount) - 1;
+                }
+                long next = 0;
+
+                while (unvisited != 0) {
+                    int cell = word * Long.SIZE + Long.numberOfTrailingZeros(unvisited);
+                    long bit = Long.lowestOneBit(unvisited);
+                    unvisited &= unvisited - 1;
+
+                    int y = cell / width;
+                    int x = cell - y * width;
+                    if (cells.get(x, y) != CellType.PASS) {
+                        visitedWord |= bit;
+                        continue;
+                    }
+                    for (Direction direction : DIRECTIONS) {
+                        int parentX = x - direction.deltaX;
+                        int parentY = y - direction.deltaY;
+                        if (parentX < 0 || parentX >= width || parentY < 0 || parentY >= height) continue;
+
+                        int parent = cell - direction.deltaY * width - direction.deltaX;
+                        if ((frontierBits[parent >>> 6] & 1L << parent) != 0) {
+                            directions[cell] = (byte) direction.ordinal();
+                            visitedWord |= bit;
+                            next |= bit;
+                            size++;
+                            break;
+                        }
+                    }
+                }
+
+                visited[word] = visitedWord;
+                nextBits[word] = next;
+            }
+
+            return size;
+        }
+
+        /** Переводит фронт из списка в битовое множество. */
+        private void toBits() {
+            if (frontierBits == null) {
+                frontierBits = new long[wordCount];
+                nextBits = new long[wordCount];
+            } else {
+                Arrays.fill(frontierBits, 0);
+            }
+            for (int i = 0; i < frontierSize; i++) {
+                frontierBits[frontier[i] >>> 6] |= 1L << frontier[i];
+            }
+        }
+
+        /** Переводит фронт из битового множества в список. */
+        private void toList() {
+            if (frontier.length < frontierSize) {
+                frontier = new int[frontierSize];
+            }
+            int size = 0;
+            for (int word = 0; word < wordCount; word++) {
+                for (long bits = frontierBits[word]; bits != 0; bits &= bits - 1) {
+                    frontier[size++] = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                }
+            }
+        }
+
+        private boolean isVisited(int cell) {
+            return ((long) WORDS.getOpaque(visited, cell >>> 6) & 1L << cell) != 0;
+        }
+
+        /** Атомарно помечает ячейку посещенной. Возвращает {@code false}, если ее уже захватила другая задача. */
+        private boolean claim(int cell) {
+            long bit = 1L << cell;
+            return ((long) WORDS.getAndBitwiseOr(visited, cell >>> 6, bit) & bit) == 0;
+        }
+
+        /** Раскрытие сверху вниз частей фронта {@code [from, to)}. */
+        private final class TopDown extends RecursiveAction {
+            private final int from;
+            private final int to;
+
+            TopDown(int from, int to) {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute() {
+                if (to - from == 1) {
+                    expandTopDown(from);
+                    return;
+                }
+
+                int middle = (from + to) >>> 1;
+                invokeAll(new TopDown(from, middle), new TopDown(middle, to));
+            }
+        }
+
+        /** Раскрытие снизу вверх диапазонов слов {@code [from, to)} по {@code grain} слов. */
+        private final class BottomUp extends RecursiveTask<Integer> {
+            private final int from;
+            private final int to;
+
+            BottomUp(int from, int to) {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected Integer compute() {
+                if (to - from == 1) {
+                    return expandBottomUp(from * grain, Math.min(wordCount, (from + 1) * grain));
+                }
+
+                int middle = (from + to) >>> 1;
+                var right = new BottomUp(middle, to);
+                right.fork();
+                int left = new BottomUp(from, middle).compute();
+                return left + right.join();
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package academy.maze.solver;
+
+import academy.maze.grid.GridStorage;
+import academy.maze.grid.MazeGrid;
+import java.util.Arrays;
+
+/**
+ * Переиспользуемые рабочие массивы поиска по плоским {@code int}-индексам ячеек {@code y * width + x}:
+ *
+ * <ul>
+ *   <li>кольцевая очередь индексов на {@code int[]}
+ *   <li>битовое множество посещенных ячеек на {@code long[]}
+ *   <li>двухбитные коды {@link academy.maze.dto.Direction#ordinal()} шагов к предкам на {@code long[]}
+ *   <li>стоимости достижения ячеек на {@code int[]} и очередь с приоритетом {@link BucketQueue} - для поиска с
+ *       весами, выделяются при первом вызове {@link #prepareCosts}
+ * </ul>
+ *
+ * <p>Каждый поток получает собственный экземпляр через {@link #acquire}: массивы растут до размера самого большого
+ * лабиринта, решенного в потоке, и повторные поиски на лабиринтах не больше него ничего не выделяют. Подготовка к
+ * поиску очищает только биты посещения - 1 бит на ячейку; коды направлений и стоимости читаются лишь для достигнутых
+ * ячеек и не очищаются.
+ *
+ * @implNote Экземпляр не потокобезопасен и не реентерабелен: решатель, которому нужны два набора массивов
+ *     одновременно, берет второй через {@link #acquireSecondary}. На время поиска экземпляр можно передать другому
+ *     потоку при наличии отношения happens-before (например, через {@code fork}/{@code join}). Массивы остаются в куче
+ *     потока до его завершения.
+ */
+final class SearchWorkspace {
+    /** Максимальное количество ячеек, которое помещается в плоский {@code int}-индекс */
+    static final long MAX_CELLS = Integer.MAX_VALUE - 8;
+
+    private static final int INITIAL_QUEUE_CAPACITY = 1024;
+
+    private static final ThreadLocal<SearchWorkspace> POOL = ThreadLocal.withInitial(SearchWorkspace::new);
+    private static final ThreadLocal<SearchWorkspace> SECONDARY_POOL = ThreadLocal.withInitial(SearchWorkspace::new);
+
+    private int[] queue = new int[INITIAL_QUEUE_CAPACITY];
+    private int head;
+    private int size;
+
+    private long[] visited = new long[0];
+    private long[] directions = new long[0];
+
+    private long[] reached = new long[0];
+    private int[] costs = new int[0];
+    private final BucketQueue buckets = new BucketQueue();
+
+    /**
+     * Проверяет, решается ли поиск в сетке на рабочих массивах потока. Массивы занимают кучу по размеру всей сетки и
+     * остаются в потоке после поиска, поэтому используются только для сеток в куче: при хранилищах вне кучи и на диске
+     * состояние поиска хранится рядом с сеткой.
+     *
+     * @param cells сетка лабиринта
+     * @return {@code true}, если сетка хранится в куче и не больше {@link #MAX_CELLS} ячеек
+     */
+    static boolean supports(MazeGrid cells) {
+        return cells.storage() == GridStorage.HEAP && cells.cellCount() <= MAX_CELLS;
+    }
+
+    /**
+     * Возвращает рабочие массивы текущего потока, подготовленные к поиску.
+     *
+     * @param cells количество ячеек лабиринта, не больше {@link #MAX_CELLS}
+     * @return рабочие массивы с пустой очередью и без посещенных ячеек
+     */
+    static SearchWorkspace acquire(int cells) {
+        SearchWorkspace workspace = POOL.get();
+        workspace.prepare(cells);
+        return workspace;
+    }
+
+    /**
+     * Возвращает второй набор рабочих массивов текущего потока, независимый от {@link #acquire}. Используется
+     * двунаправленными решателями.
+     *
+     * @param cells количество ячеек лабиринта, не больше {@link #MAX_CELLS}
+     * @return рабочие массивы с пустой очередью и без посещенных ячеек
+     */
+    static SearchWorkspace acquireSecondary(int cells) {
+        SearchWorkspace workspace = SECONDARY_POOL.get();
+        workspace.prepare(cells);
+        return workspace;
+    }
+
+    /**
+     * Подготавливает массивы к поиску в лабиринте из указанного количества ячеек.
+     *
+     * @param cells количество ячеек лабиринта
+     */
+    void prepare(int cells) {
+        int visitedWords = (int) (((long) cells + 63) >>> 6);
+        if (visited.length < visitedWords) {
+            visited = new long[visitedWords];
+        } else {
+            Arrays.fill(visited, 0, visitedWords, 0);
+        }
+
+        int directionWords = (int) (((long) cells + 31) >>> 5);
+        if (directions.length < directionWords) {
+            directions = new long[directionWords];
+        }
+
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Дополнительно подготавливает стоимости и очередь с приоритетом к поиску с весами. Вызывается после
+     * {@link #acquire}.
+     *
+     * @param cells количество ячеек лабиринта
+     */
+    void prepareCosts(int cells) {
+        int reachedWords = (int) (((long) cells + 63) >>> 6);
+        if (reached.length < reachedWords) {
+            reached = new long[reachedWords];
+        } else {
+            Arrays.fill(reached, 0, reachedWords, 0);
+        }
+
+        if (costs.length < cells) {
+            costs = new int[cells];
+        }
+        buckets.clear();
+    }
+
+    /**
+     * Отмечает ячейку посещенной.
+     *
+     * @param cell индекс ячейки
+     * @return {@code true}, если ячейка не была посещена до вызова
+     */
+    boolean visit(int cell) {
+        long bit = 1L << cell;
+        long word = visited[cell >>> 6];
+        visited[cell >>> 6] = word | bit;
+        return (word & bit) == 0;
+    }
+
+    boolean isVisited(int cell) {
+        return (visited[cell >>> 6] & 1L << cell) != 0;
+    }
+
+    void setDirection(int cell, int direction) {
+        int shift = cell << 1;
+        int word = cell >>> 5;
+        directions[word] = directions[word] & ~(3L << shift) | (long) direction << shift;
+    }
+
+    int direction(int cell) {
+        return (int) (directions[cell >>> 5] >>> (cell << 1)) & 3;
+    }
+
+    boolean isReached(int cell) {
+        return (reached[cell >>> 6] & 1L << cell) != 0;
+    }
+
+    /**
+     * Возвращает стоимость достижения ячейки. Действительна, только если {@link #isReached} ячейки истинно.
+     *
+     * @param cell индекс ячейки
+     * @return последняя записанная стоимость
+     */
+    int cost(int cell) {
+        return costs[cell];
+    }
+
+    void setCost(int cell, int cost) {
+        reached[cell >>> 6] |= 1L << cell;
+        costs[cell] = cost;
+    }
+
+    BucketQueue buckets() {
+        return buckets;
+    }
+
+    void offer(int cell) {
+        if (size == queue.length) {
+            growQueue();
+        }
+        queue[head + size++ & queue.length - 1] = cell;
+    }
+
+    int poll() {
+        int cell = queue[head];
+        head = head + 1 & queue.length - 1;
+        size--;
+        return cell;
+    }
+
+    boolean isQueueEmpty() {
+        return size == 0;
+    }
+
+    int queueSize() {
+        return size;
+    }
+
+    /**
+     * Возвращает элемент очереди, не извлекая его.
+     *
+     * @param position позиция от начала очереди, меньше {@link #queueSize()}
+     * @return индекс ячейки
+     */
+    int queued(int position) {
+        return queue[head + position & queue.length - 1];
+    }
+
+    /** Удваивает очередь, разворачивая кольцо в начало нового массива. */
+    private void growQueue() {
+        var grown = new int[queue.length * 2];
+        int tail = queue.length - head;
+        System.arraycopy(queue, head, grown, 0, tail);
+        System.arraycopy(queue, 0, grown, tail, head);
+        queue = grown;
+        head = 0;
+    }
+}
@@ -0,0 +1,321 @@
+package academy.maze.solver;
+
+import academy.maze.dto.Direction;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.grid.MazeGrid;
+import java.util.Arrays;
+
+/**
+ * Индекс расстояний для идеальных лабиринтов, в которых проходимые ячейки образуют дерево.
+ *
+ * <p>В дереве между двумя ячейками ровно один путь: он поднимается от первой ячейки к их наименьшему общему предку
+ * (LCA) и спускается ко второй. Индекс строится один раз:
+ *
+ * <ol>
+ *   <li>Каждая компонента проходов обходится в глубину от первой по порядку ячейки; запоминаются глубины ячеек и
+ *       эйлеров обход - последовательность ячеек при входе в каждую вершину и возврате в нее из ребенка
+ *   <li>LCA двух ячеек - ячейка с наименьшей глубиной в эйлеровом обходе между их первыми вхождениями. Обход делится на
+ *       блоки по {@value #BLOCK} элементов, и по минимумам блоков строится разреженная таблица
+ * </ol>
+ *
+ * <p>Расстояние {@code depth(a) + depth(b) - 2 × depth(lca)} вычисляется за O(1): запрос просматривает не больше двух
+ * неполных блоков и два элемента таблицы. Путь выписывается без поиска: родитель ячейки - единственный сосед с глубиной
+ * на единицу меньше. Индекс неизменяем и может использоваться из любого числа потоков.
+ *
+ * @implNote Память: по два {@code int} на ячейку сетки (глубина и первое вхождение), два {@code int} на проходимую
+ *     ячейку в эйлеровом обходе и O(n / {@value #BLOCK} × log n) на таблицу. Направления к родителю не хранятся, а
+ *     восстанавливаются по глубинам соседей.
+ */
+public final class TreeDistanceOracle {
+    /** Размер блока эйлерова обхода */
+    private static final int BLOCK = 32;
+
+    /** Глубина непроходимых и еще не посещенных ячеек */
+    private static final int NO_DEPTH = Integer.MIN_VALUE;
+
+    private static final Direction[] DIRECTIONS = Direction.getDirections();
+
+    private final MazeGrid cells;
+    private final int width;
+    private final int height;
+
+    /** Глубина ячейки от корня ее компоненты или {@link #NO_DEPTH} для стен */
+    private final int[] depths;
+
+    /** Индекс первого вхождения ячейки в эйлеров обход */
+    private final int[] first;
+
+    /** Эйлеров обход всех компонент подряд */
+    private final int[] euler;
+
+    /** Начала компонент в эйлеровом обходе по возрастанию и, последним элементом, длина обхода */
+    private final int[] components;
+
+    /** {@code table[k][b]} - индекс элемента с наименьшей глубиной в блоках {@code [b, b + 2^k)} */
+    private final int[][] table;
+
+    private TreeDistanceOracle(MazeGrid cells, int passable) {
+        this.cells = cells;
+        this.width = cells.width();
+        this.height = cells.height();
+        this.depths = new int[width * height];
+        this.first = new int[width * height];
+        this.euler = new int[Math.max(1, passable * 2)];
+        Arrays.fill(depths, NO_DEPTH);
+
+        this.components = traverse();
+        this.table = buildTable(components[components.length - 1]);
+    }
+
+    /**
+     * Строит индекс для лабиринта.
+     *
+     * @param maze лабиринт без циклов
+     * @return индекс расстояний
+     * @throws IllegalArgumentException если в лабиринте есть цикл или он слишком велик для {@code int}-индексов
+     */
+    public static TreeDistanceOracle of(Maze maze) {
+        MazeGrid cells = maze.cells();
+        if (cells.cellCount() > SearchWorkspace.MAX_CELLS) {
+            throw new IllegalArgumentException("Maze is too large for a distance oracle");
+        }
+
+        int passable = 0;
+        for (int y = 0; y < cells.height(); y++) {
+            for (int x = 0; x < cells.width(); x++) {
+                passable += cells.isWall(x, y) ? 0 : 1;
+            }
+        }
+        if (passable > SearchWorkspace.MAX_CELLS / 2) {
+            throw new IllegalArgumentException("Maze is too large for a distance oracle");
+        }
+
+        return new TreeDistanceOracle(cells, passable);
+    }
+
+    /**
+     * Возвращает длину пути между точками в шагах.
+     *
+     * @param start начальная точка
+     * @param end конечная точка
+     * @return количество шагов или {@code -1}, если точки не связаны, непроходимы или вне лабиринта
+     */
+    public int distance(Point start, Point end) {
+        if (!isPassable(start) || !isPassable(end)) {
+            return -1;
+        }
+
+        int a = cell(start);
+        int b = cell(end);
+        int lca = lowestCommonAncestor(a, b);
+        return lca < 0 ? -1 : depths[a] + depths[b] - 2 * depths[lca];
+    }
+
+    /**
+     * Выписывает путь между точками без поиска.
+     *
+     * @param start начальная точка
+     * @param end конечная точка
+     * @return единственный путь между точками или пустой путь, если точки не связаны, непроходимы или вне лабиринта
+     */
+    public Path path(Point start, Point end) {
+        if (!isPassable(start) || !isPassable(end)) {
+            return Path.empty();
+        }
+
+        int a = cell(start);
+        int b = cell(end);
+        int lca = lowestCommonAncestor(a, b);
+        if (lca < 0) {
+            return Path.empty();
+        }
+
+        var builder = new Path.Builder(start);
+        for (int current = a; current != lca; ) {
+            Direction up = parentDirection(current);
+            builder.append(up);
+            current += offset(up);
+        }
+
+        var descent = new Direction[depths[b] - depths[lca]];
+        for (int current = b, i = descent.length - 1; current != lca; i--) {
+            Direction up = parentDirection(current);
+            descent[i] = up.opposite();
+            current += offset(up);
+        }
+        for (Direction down : descent) {
+            builder.append(down);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Обходит все компоненты в глубину, заполняя глубины и эйлеров обход.
+     *
+     * @return начала компонент в эйлеровом обходе и длина обхода последним элементом
+     */
+    private int[] traverse() {
+        var componentStarts = new int[16];
+        int componentCount = 0;
+        var stack = new int[16];
+        var next = new byte[16];
+        int length = 0;
+
+        for (int root = 0; root < width * height; root++) {
+            if (depths[root] != NO_DEPTH || cells.isWall(root % width, root / width)) {
+                continue;
+            }
+
+            if (componentCount == componentStarts.length) {
+                componentStarts = Arrays.copyOf(componentStarts, componentCount * 2);
+            }
+            componentStarts[componentCount++] = length;
+            depths[root] = 0;
+            first[root] = length;
+            euler[length++] = root;
+            stack[0] = root;
+            next[0] = 0;
+            int top = 0;
+
+            while (top >= 0) {
+                int current = stack[top];
+                if (next[top] == DIRECTIONS.length) {
+                    top--;
+                    if (top >= 0) {
+                        euler[length++] = stack[top];
+                    }
+                    continue;
+                }
+
+                Direction direction = DIRECTIONS[next[top]++];
+                if (!isPassable(current, direction)) {
+                    continue;
+                }
+
+                int neighbor = current + offset(direction);
+                int depth = depths[current];
+                if (depths[neighbor] == NO_DEPTH) {
+                    depths[neighbor] = depth + 1;
+                    first[neighbor] = length;
+                    euler[length++] = neighbor;
+                    if (++top == stack.length) {
+                        stack = Arrays.copyOf(stack, top * 2);
+                        next = Arrays.copyOf(next, top * 2);
+                    }
+                    stack[top] = neighbor;
+                    next[top] = 0;
+                } else if (depths[neighbor] != depth - 1 && depths[neighbor] != depth + 1) {
+                    throw new IllegalArgumentException("Maze has cycles: passable cells do not form a tree");
+                }
+            }
+        }
+
+        componentStarts = Arrays.copyOf(componentStarts, componentCount + 1);
+        componentStarts[componentCount] = length;
+        return componentStarts;
+    }
+
+    private int[][] buildTable(int length) {
+        int blocks = (length + BLOCK - 1) / BLOCK;
+        int levels = blocks <= 1 ? 1 : 32 - Integer.numberOfLeadingZeros(blocks - 1) + 1;
+        var table = new int[levels][];
+        table[0] = new int[blocks];
+        for (int block = 0; block < blocks; block++) {
+            table[0][block] = scan(block * BLOCK, Math.min(length, (block + 1) * BLOCK) - 1);
+        }
+        for (int level = 1; level < levels; level++) {
+            int span = 1 << level - 1;
+            table[level] = new int[Math.max(0, blocks - (1 << level) + 1)];
+            for (int block = 0; block < table[level].length; block++) {
+                table[level][block] = shallower(table[level - 1][block], table[level - 1][block + span]);
+            }
+        }
+
+        return table;
+    }
+
+    /**
+     * Находит наименьшего общего предка двух проходимых ячеек.
+     *
+     * @return ячейка предка или {@code -1}, если ячейки лежат в разных компонентах
+     */
+    private int lowestCommonAncestor(int a, int b) {
+        int from = Math.min(first[a], first[b]);
+        int to = Math.max(first[a], first[b]);
+        if (component(from) != component(to)) {
+            return -1;
+        }
+
+        int fromBlock = from / BLOCK;
+        int toBlock = to / BLOCK;
+        if (fromBlock == toBlock) {
+            return euler[scan(from, to)];
+        }
+
+        int best = shallower(scan(from, fromBlock * BLOCK + BLOCK - 1), scan(toBlock * BLOCK, to));
+        if (fromBlock + 1 < toBlock) {
+            int blocks = toBlock - fromBlock - 1;
+            int level = 31 - Integer.numberOfLeadingZeros(blocks);
+            best = shallower(best, table[level][fromBlock + 1]);
+            best = shallower(best, table[level][toBlock - (1 << level)]);
+        }
+
+        return euler[best];
+    }
+
+    /** Возвращает индекс элемента эйлерова обхода с наименьшей глубиной на отрезке {@code [from, to]}. */
+    private int scan(int from, int to) {
+        int best = from;
+        for (int i = from + 1; i <= to; i++) {
+            if (depths[euler[i]] < depths[euler[best]]) {
+                best = i;
+            }
+        }
+
+        return best;
+    }
+
+    private int shallower(int a, int b) {
+        return depths[euler[b]] < depths[euler[a]] ? b : a;
+    }
+
+    private int component(int position) {
+        int index = Arrays.binarySearch(components, position);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private Direction parentDirection(int cell) {
+        for (Direction direction : DIRECTIONS) {
+            if (isPassable(cell, direction) && depths[cell + offset(direction)] == depths[cell] - 1) {
+                return direction;
+            }
+        }
+
+        throw new IllegalStateException("Cell " + cell + " has no parent");
+    }
+
+    private int cell(Point point) {
+        return point.y() * width + point.x();
+    }
+
+    private int offset(Direction direction) {
+        return direction.deltaY * width + direction.deltaX;
+    }
+
+    private boolean isPassable(Point point) {
+        return point.x() >= 0
+                && point.x() < width
+                && point.y() >= 0
+                && point.y() < height
+                && !cells.isWall(point.x(), point.y());
+    }
+
+    private boolean isPassable(int cell, Direction direction) {
+        int x = cell % width + direction.deltaX;
+        int y = cell / width + direction.deltaY;
+        return x >= 0 && x < width && y >= 0 && y < height && !cells.isWall(x, y);
+    }
+}
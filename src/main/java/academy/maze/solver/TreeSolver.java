@@ -0,0 +1,60 @@
+package academy.maze.solver;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.grid.MazeGrid;
+
+/**
+ * Решатель для идеальных лабиринтов, выписывающий путь по индексу {@link TreeDistanceOracle} без поиска.
+ *
+ * <p>Индекс строится при первом решении лабиринта и переиспользуется, пока решаются пути в том же лабиринте, поэтому
+ * тысячи запросов к одному лабиринту стоят одного обхода сетки и длины самих путей. Если первые запросы приходят из
+ * нескольких потоков одновременно, индекс строит только один из них. Лабиринты с циклами и лабиринты больше
+ * {@code 2^31} ячеек решаются {@link AStarSolver}.
+ */
+public class TreeSolver extends AbstractSolver {
+    private final AStarSolver fallback = new AStarSolver();
+
+    /** Индекс последнего решенного лабиринта */
+    private volatile Index index;
+
+    @Override
+    public Path solve(Maze maze, Point start, Point end) {
+        if (isValidTargetPoints(maze, start, end)) {
+            return Path.empty();
+        }
+        if (maze.cells().cellCount() > SearchWorkspace.MAX_CELLS) {
+            return fallback.solve(maze, start, end);
+        }
+
+        Index current = index;
+        if (current == null || current.cells() != maze.cells()) {
+            synchronized (this) {
+                current = index;
+                if (current == null || current.cells() != maze.cells()) {
+                    current = new Index(maze.cells(), build(maze));
+                    index = current;
+                }
+            }
+        }
+
+        return current.oracle() == null ? fallback.solve(maze, start, end) : current.oracle().path(start, end);
+    }
+
+    private static TreeDistanceOracle build(Maze maze) {
+        try {
+            return TreeDistanceOracle.of(maze);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Индекс лабиринта.
+     *
+     * @param cells сетка, по которой построен индекс
+     * @param oracle индекс расстояний или {@code null}, если в лабиринте есть циклы
+     */
+    private record Index(MazeGrid cells, TreeDistanceOracle oracle) {}
+}
@@ -0,0 +1,41 @@
+package academy.maze;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import academy.maze.dto.Point;
+import academy.maze.dto.Query;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class QueryParserTest {
+    private final QueryParser parser = new QueryParser();
+
+    @Test
+    void shouldParseCsvAndJsonLines() {
+        List<Query> queries = parser.parse(List.of(
+                "# start and end",
+                "1,1, 9,9",
+                "",
+                "{\"start\": {\"x\": 3, \"y\": 5}, \"end\": {\"x\": 7, \"y\": 1}}",
+                "{\"id\": 42, \"start\": {\"x\": 1, \"y\": 3}, \"end\": {\"x\": 5, \"y\": 5}}"));
+
+        assertEquals(
+                List.of(
+                        new Query(0, new Point(1, 1), new Point(9, 9)),
+                        new Query(1, new Point(3, 5), new Point(7, 1)),
+                        new Query(42, new Point(1, 3), new Point(5, 5))),
+                queries);
+    }
+
+    @Test
+    void shouldReportLineOfInvalidQuery() {
+        var exception = assertThrows(IllegalArgumentException.class, () -> parser.parse(List.of("1,1,9,9", "1,1,9")));
+
+        assertAll(
+                () -> assertEquals("Invalid query at line 2: 1,1,9 (Expected x1,y1,x2,y2)", exception.getMessage()),
+                () -> assertInstanceOf(IllegalArgumentException.class, exception.getCause()));
+    }
+}
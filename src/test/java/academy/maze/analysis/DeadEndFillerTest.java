@@ -0,0 +1,112 @@
+package academy.maze.analysis;
+
+import static academy.maze.dto.CellType.PASS;
+import static academy.maze.dto.CellType.WALL;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Point;
+import academy.maze.generator.DFSGenerator;
+import academy.maze.generator.KruskalGenerator;
+import academy.maze.generator.PrimGenerator;
+import academy.maze.grid.GridStorage;
+import academy.maze.grid.PackedGrid;
+import academy.maze.solver.AStarSolver;
+import academy.maze.solver.BFSSolver;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+public class DeadEndFillerTest {
+    private final DeadEndFiller filler = new DeadEndFiller();
+
+    @ParameterizedTest
+    @EnumSource(GridStorage.class)
+    void shouldLeaveOnlySolutionCorridorInPerfectMaze(GridStorage storage) {
+        Maze maze = new KruskalGenerator().generate(201, 151, storage, new SplittableRandom(2));
+        var start = new Point(1, 1);
+        var end = new Point(201, 151);
+
+        Maze pruned = filler.fill(maze, start, end);
+
+        assertAll(
+                () -> assertEquals(new BFSSolver().solve(maze, start, end).length(), countPassable(pruned)),
+                () -> assertEquals(
+                        new BFSSolver().solve(maze, start, end),
+                        new AStarSolver().solve(pruned, start, end)),
+                () -> assertEquals(storage, pruned.cells().storage()));
+    }
+
+    @Test
+    void shouldKeepProtectedDeadEnds() {
+        Maze maze = new PrimGenerator().generate(41, 41, GridStorage.HEAP, new SplittableRandom(8));
+        var start = new Point(1, 1);
+        var end = new Point(41, 41);
+
+        Maze pruned = filler.fill(maze, start, end);
+
+        assertAll(
+                () -> assertFalse(pruned.cells().isWall(1, 1)),
+                () -> assertFalse(pruned.cells().isWall(41, 41)),
+                () -> assertEquals(
+                        new BFSSolver().solve(maze, start, end).length(),
+                        new BFSSolver().solve(pruned, start, end).length()));
+    }
+
+    @Test
+    void shouldKeepCyclesAndShortestPaths() {
+        var random = new SplittableRandom(6);
+        var grid = new DFSGenerator().generate(61, 61, GridStorage.HEAP, random).edit();
+        for (int i = 0; i < 200; i++) {
+            grid.set(random.nextInt(1, grid.width() - 1), random.nextInt(1, grid.height() - 1), PASS);
+        }
+        var maze = new Maze(grid);
+
+        for (int i = 0; i < 30; i++) {
+            var start = new Point(random.nextInt(31) * 2 + 1, random.nextInt(31) * 2 + 1);
+            var end = new Point(random.nextInt(31) * 2 + 1, random.nextInt(31) * 2 + 1);
+
+            Maze pruned = filler.fill(maze, start, end);
+
+            assertEquals(
+                    new BFSSolver().solve(maze, start, end).length(),
+                    new BFSSolver().solve(pruned, start, end).length(),
+                    start + " -> " + end);
+        }
+    }
+
+    @Test
+    void shouldFillTreesWithoutProtectedPoints() {
+        CellType[][] cells = {
+            {WALL, WALL, WALL, WALL, WALL, WALL},
+            {WALL, PASS, PASS, PASS, WALL, WALL},
+            {WALL, WALL, PASS, WALL, WALL, PASS},
+            {WALL, WALL, WALL, WALL, WALL, WALL}
+        };
+        var maze = new Maze(PackedGrid.of(cells));
+
+        Maze pruned = filler.fill(maze);
+
+        assertAll(
+                () -> assertEquals(1, countPassable(pruned)),
+                () -> assertFalse(pruned.cells().isWall(5, 2)),
+                () -> assertEquals(PASS, maze.cells().get(1, 1), "Source maze should not change"));
+    }
+
+    private static int countPassable(Maze maze) {
+        int count = 0;
+        for (int y = 0; y < maze.height(); y++) {
+            for (int x = 0; x < maze.width(); x++) {
+                if (!maze.cells().isWall(x, y)) {
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,64 @@
+package academy.maze.analysis;
+
+import static academy.maze.dto.CellType.PASS;
+import static academy.maze.dto.CellType.WALL;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Point;
+import academy.maze.generator.KruskalGenerator;
+import academy.maze.grid.GridStorage;
+import academy.maze.grid.PackedGrid;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+public class MazeAnalyzerTest {
+    private final MazeAnalyzer analyzer = new MazeAnalyzer();
+
+    @ParameterizedTest
+    @EnumSource(GridStorage.class)
+    void shouldRecognizeGeneratedMazeAsPerfect(GridStorage storage) {
+        Maze maze = new KruskalGenerator().generate(301, 203, storage, new SplittableRandom(5));
+
+        MazeAnalysis analysis = analyzer.analyze(maze);
+
+        assertAll(
+                () -> assertEquals(1, analysis.components()),
+                () -> assertEquals(0, analysis.cycles()),
+                () -> assertEquals(0, analysis.isolatedCells()),
+                () -> assertTrue(analysis.isPerfect()),
+                () -> assertTrue(analysis.connected(new Point(1, 1), new Point(301, 203))));
+    }
+
+    @Test
+    void shouldCountComponentsCyclesAndIsolatedCells() {
+        Maze maze = new Maze(PackedGrid.of(new CellType[][] {
+            {WALL, WALL, WALL, WALL, WALL, WALL, WALL},
+            {WALL, PASS, PASS, PASS, WALL, PASS, WALL},
+            {WALL, PASS, WALL, PASS, WALL, WALL, WALL},
+            {WALL, PASS, PASS, PASS, WALL, PASS, WALL},
+            {WALL, WALL, WALL, WALL, WALL, PASS, WALL},
+            {WALL, WALL, WALL, WALL, WALL, WALL, WALL}
+        }));
+
+        MazeAnalysis analysis = analyzer.analyze(maze);
+
+        assertAll(
+                () -> assertEquals(11, analysis.passableCells()),
+                () -> assertEquals(3, analysis.components()),
+                () -> assertEquals(1, analysis.isolatedCells()),
+                () -> assertEquals(1, analysis.cycles()),
+                () -> assertFalse(analysis.isPerfect()),
+                () -> assertTrue(analysis.connected(new Point(1, 1), new Point(3, 3))),
+                () -> assertFalse(analysis.connected(new Point(1, 1), new Point(5, 3))),
+                () -> assertFalse(analysis.connected(new Point(1, 1), new Point(5, 1))),
+                () -> assertFalse(analysis.connected(new Point(1, 1), new Point(0, 0))),
+                () -> assertFalse(analysis.connected(new Point(1, 1), new Point(-1, 9))));
+    }
+}
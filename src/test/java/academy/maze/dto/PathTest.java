@@ -0,0 +1,77 @@
+package academy.maze.dto;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class PathTest {
+    @Test
+    void shouldKeepPointsInOrder() {
+        Path path = Path.of(new Point(1, 1), new Point(2, 1), new Point(2, 2), new Point(1, 2));
+
+        List<Point> points = new ArrayList<>();
+        path.forEach(points::add);
+
+        assertAll(
+                () -> assertEquals(4, path.length()),
+                () -> assertEquals(new Point(1, 1), path.start()),
+                () -> assertEquals(new Point(1, 2), path.end()),
+                () -> assertEquals(Direction.DOWN, path.direction(1)),
+                () -> assertEquals(
+                        List.of(new Point(1, 1), new Point(2, 1), new Point(2, 2), new Point(1, 2)), points));
+    }
+
+    @Test
+    void shouldGiveRandomAccessAcrossCheckpoints() {
+        var builder = new Path.Builder(new Point(0, 0));
+        for (int i = 0; i < 1000; i++) {
+            builder.append(i % 3 == 0 ? Direction.DOWN : Direction.RIGHT);
+        }
+        Path path = builder.build();
+
+        int[] expectedX = new int[path.length()];
+        int[] expectedY = new int[path.length()];
+        path.forEachPoint((i, x, y) -> {
+            expectedX[i] = x;
+            expectedY[i] = y;
+        });
+
+        for (int i = 0; i < path.length(); i++) {
+            assertEquals(new Point(expectedX[i], expectedY[i]), path.get(i), "index = " + i);
+        }
+        assertEquals(new Point(666, 334), path.end());
+    }
+
+    @Test
+    void shouldReverseSteps() {
+        Path path = Path.of(new Point(1, 1), new Point(1, 2), new Point(2, 2));
+        Path reversed = path.reversed();
+
+        assertAll(
+                () -> assertEquals(Path.of(new Point(2, 2), new Point(1, 2), new Point(1, 1)), reversed),
+                () -> assertEquals(path, reversed.reversed()));
+    }
+
+    @Test
+    void shouldHandleEmptyAndSinglePointPaths() {
+        Path single = Path.of(new Point(3, 4));
+
+        assertAll(
+                () -> assertTrue(Path.empty().isEmpty()),
+                () -> assertEquals(Path.empty(), Path.of()),
+                () -> assertEquals(1, single.length()),
+                () -> assertEquals(single.start(), single.end()),
+                () -> assertThrows(
+                        IndexOutOfBoundsException.class, () -> Path.empty().start()));
+    }
+
+    @Test
+    void shouldRejectNonAdjacentPoints() {
+        assertThrows(IllegalArgumentException.class, () -> Path.of(new Point(1, 1), new Point(3, 1)));
+    }
+}
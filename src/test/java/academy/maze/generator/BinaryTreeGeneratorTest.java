@@ -0,0 +1,17 @@
+package academy.maze.generator;
+
+import org.junit.jupiter.api.Test;
+
+public class BinaryTreeGeneratorTest extends MazeGeneratorTestBase {
+    @Override
+    protected Generator createGenerator() {
+        return new BinaryTreeGenerator();
+    }
+
+    @Test
+    void shouldCarveRowsSpanningSeveralWords() {
+        for (int width = 125; width <= 131; width++) {
+            assertPerfect(generateMaze(width, 23, width));
+        }
+    }
+}
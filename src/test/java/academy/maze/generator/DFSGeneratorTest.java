@@ -1,10 +1,8 @@
 package academy.maze.generator;
 
-import academy.maze.dto.Maze;
-
 public class DFSGeneratorTest extends MazeGeneratorTestBase {
     @Override
-    protected Maze generateMaze(int width, int height) {
-        return new DFSGenerator().generate(width, height);
+    protected Generator createGenerator() {
+        return new DFSGenerator();
     }
 }
@@ -0,0 +1,47 @@
+package academy.maze.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.grid.GridRowConsumer;
+import academy.maze.grid.PackedGrid;
+import academy.maze.renderer.MazeRenderer;
+import academy.maze.renderer.UnicodeMazeRenderer;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+public class EllerGeneratorTest extends MazeGeneratorTestBase {
+    @Override
+    protected Generator createGenerator() {
+        return new EllerGenerator();
+    }
+
+    @Test
+    void shouldStreamSameTextAsFullRendering() {
+        MazeRenderer renderer = new UnicodeMazeRenderer();
+        var streamed = new StringBuilder();
+        GridRowConsumer writer = renderer.renderGeneratedRows(streamed);
+        PackedGrid[] grid = new PackedGrid[1];
+
+        new EllerGenerator().generateRows(9, 6, new SplittableRandom(), new GridRowConsumer() {
+            @Override
+            public void begin(int width, int height) {
+                grid[0] = new PackedGrid(width, height);
+                writer.begin(width, height);
+            }
+
+            @Override
+            public void accept(int y, long[] passable) {
+                for (int x = 0; x < grid[0].width(); x++) {
+                    if ((passable[x / Long.SIZE] & 1L << x) != 0) {
+                        grid[0].set(x, y, CellType.PASS);
+                    }
+                }
+                writer.accept(y, passable);
+            }
+        });
+
+        assertEquals(renderer.renderGeneratedMaze(new Maze(grid[0])), streamed.toString());
+    }
+}
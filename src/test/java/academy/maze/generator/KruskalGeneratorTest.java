@@ -1,10 +1,23 @@
 package academy.maze.generator;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
 import academy.maze.dto.Maze;
+import academy.maze.dto.Point;
+import academy.maze.solver.BFSSolver;
+import org.junit.jupiter.api.Test;
 
 public class KruskalGeneratorTest extends MazeGeneratorTestBase {
     @Override
-    protected Maze generateMaze(int width, int height) {
-        return new KruskalGenerator().generate(width, height);
+    protected Generator createGenerator() {
+        return new KruskalGenerator();
+    }
+
+    @Test
+    void shouldConnectLastNodeRowAndColumn() {
+        Maze maze = generateMaze(31, 17);
+        var corner = new Point(maze.width() - 2, maze.height() - 2);
+
+        assertFalse(new BFSSolver().solve(maze, new Point(1, 1), corner).isEmpty());
     }
 }
@@ -4,11 +4,26 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import academy.maze.dto.CellType;
 import academy.maze.dto.Maze;
+import academy.maze.grid.GridStorage;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.Test;
 
 public abstract class MazeGeneratorTestBase {
 
-    protected abstract Maze generateMaze(int width, int height);
+    protected abstract Generator createGenerator();
+
+    protected Maze generateMaze(int width, int height) {
+        return createGenerator().generate(width, height);
+    }
+
+    protected Maze generateMaze(int width, int height, long seed) {
+        return createGenerator().generate(width, height, GridStorage.HEAP, new SplittableRandom(seed));
+    }
 
     @Test
     void shouldCreateMazeWithCorrectDimensions() {
@@ -34,14 +49,53 @@ public abstract class MazeGeneratorTestBase {
                 () -> assertThrows(IllegalArgumentException.class, () -> generateMaze(10, -1)));
     }
 
+    @Test
+    void shouldGeneratePerfectMaze() {
+        assertPerfect(generateMaze(31, 17));
+    }
+
+    @Test
+    void shouldGenerateSameMazeForSameSeed() {
+        assertAll(
+                () -> assertEquals(toText(generateMaze(25, 19, 42)), toText(generateMaze(25, 19, 42))),
+                () -> assertNotEquals(toText(generateMaze(25, 19, 42)), toText(generateMaze(25, 19, 43))));
+    }
+
+    @Test
+    void shouldGenerateSameMazeForSameSeedInParallel() throws Exception {
+        String expected = toText(generateMaze(41, 41, 7));
+
+        var results = new ArrayList<Future<String>>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 32; i++) {
+                results.add(executor.submit(() -> toText(generateMaze(41, 41, 7))));
+            }
+        }
+
+        for (Future<String> result : results) {
+            assertEquals(expected, result.get());
+        }
+    }
+
+    private static String toText(Maze maze) {
+        var sb = new StringBuilder();
+        for (int y = 0; y < maze.height(); y++) {
+            for (int x = 0; x < maze.width(); x++) {
+                sb.append(maze.cells().isWall(x, y) ? '#' : ' ');
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
     private boolean hasBorderWalls(Maze maze) {
         for (int x = 0; x < maze.width(); x++) {
-            if (maze.cells()[0][x] != CellType.WALL || maze.cells()[maze.height() - 1][x] != CellType.WALL) {
+            if (maze.cells().get(x, 0) != CellType.WALL || maze.cells().get(x, maze.height() - 1) != CellType.WALL) {
                 return false;
             }
         }
         for (int y = 0; y < maze.height(); y++) {
-            if (maze.cells()[y][0] != CellType.WALL || maze.cells()[y][maze.width() - 1] != CellType.WALL) {
+            if (maze.cells().get(0, y) != CellType.WALL || maze.cells().get(maze.width() - 1, y) != CellType.WALL) {
                 return false;
             }
         }
@@ -51,7 +105,7 @@ public abstract class MazeGeneratorTestBase {
     private boolean hasAtLeastOnePassage(Maze maze) {
         for (int y = 1; y < maze.height() - 1; y++) {
             for (int x = 1; x < maze.width() - 1; x++) {
-                if (maze.cells()[y][x] == CellType.PASS) {
+                if (maze.cells().get(x, y) == CellType.PASS) {
                     return true;
                 }
             }
@@ -62,11 +116,65 @@ public abstract class MazeGeneratorTestBase {
     private boolean isMazeValid(Maze maze) {
         for (int y = 0; y < maze.height(); y++) {
             for (int x = 0; x < maze.width(); x++) {
-                CellType cell = maze.cells()[y][x];
+                CellType cell = maze.cells().get(x, y);
                 assertNotNull(cell, "Cell should not be null");
                 assertTrue(cell == CellType.WALL || cell == CellType.PASS, "Cell should be either WALL or PASS");
             }
         }
         return true;
     }
+
+    protected static void assertPerfect(Maze maze) {
+        assertEquals(countPassages(maze) - 1, countConnections(maze), "Perfect maze is a spanning tree");
+        assertEquals(countPassages(maze), countReachable(maze), "Every passage should be reachable");
+    }
+
+    private static int countPassages(Maze maze) {
+        int count = 0;
+        for (int y = 0; y < maze.height(); y++) {
+            for (int x = 0; x < maze.width(); x++) {
+                if (!maze.cells().isWall(x, y)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static int countConnections(Maze maze) {
+        int count = 0;
+        for (int y = 0; y < maze.height() - 1; y++) {
+            for (int x = 0; x < maze.width() - 1; x++) {
+                if (!maze.cells().isWall(x, y)) {
+                    count += maze.cells().isWall(x + 1, y) ? 0 : 1;
+                    count += maze.cells().isWall(x, y + 1) ? 0 : 1;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static int countReachable(Maze maze) {
+        var visited = new boolean[maze.height()][maze.width()];
+        var queue = new ArrayDeque<int[]>();
+        queue.add(new int[] {1, 1});
+        visited[1][1] = true;
+        int count = 0;
+
+        while (!queue.isEmpty()) {
+            int[] cell = queue.poll();
+            count++;
+            int[][] neighbors = {
+                {cell[0] + 1, cell[1]}, {cell[0] - 1, cell[1]}, {cell[0], cell[1] + 1}, {cell[0], cell[1] - 1}
+            };
+            for (int[] neighbor : neighbors) {
+                if (!visited[neighbor[1]][neighbor[0]] && !maze.cells().isWall(neighbor[0], neighbor[1])) {
+                    visited[neighbor[1]][neighbor[0]] = true;
+                    queue.add(neighbor);
+                }
+            }
+        }
+
+        return count;
+    }
 }
@@ -0,0 +1,22 @@
+package academy.maze.generator;
+
+import academy.maze.grid.GridStorage;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+public class RecursiveDivisionGeneratorTest extends MazeGeneratorTestBase {
+    @Override
+    protected Generator createGenerator() {
+        return new RecursiveDivisionGenerator(16, ForkJoinPool.commonPool());
+    }
+
+    @ParameterizedTest
+    @EnumSource(GridStorage.class)
+    void shouldDivideInParallelIntoPerfectMaze(GridStorage storage) {
+        var generator = new RecursiveDivisionGenerator(4, new ForkJoinPool(4));
+
+        assertPerfect(generator.generate(201, 97, storage, new SplittableRandom(11)));
+    }
+}
@@ -0,0 +1,22 @@
+package academy.maze.generator;
+
+import academy.maze.grid.GridStorage;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+public class TiledParallelGeneratorTest extends MazeGeneratorTestBase {
+    @Override
+    protected Generator createGenerator() {
+        return new TiledParallelGenerator(new KruskalGenerator(), 7, ForkJoinPool.commonPool());
+    }
+
+    @ParameterizedTest
+    @EnumSource(GridStorage.class)
+    void shouldStitchManyTilesIntoPerfectMaze(GridStorage storage) {
+        var generator = new TiledParallelGenerator(new DFSGenerator(), 15, new ForkJoinPool(4));
+
+        assertPerfect(generator.generate(201, 97, storage, new SplittableRandom(11)));
+    }
+}
@@ -0,0 +1,70 @@
+package academy.maze.grid;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import org.junit.jupiter.api.Test;
+
+public class CopyOnWriteGridTest {
+    @Test
+    void shouldNotModifyOriginalMaze() {
+        Maze maze = createMaze();
+
+        CopyOnWriteGrid grid = maze.edit();
+        grid.set(2, 1, CellType.PATH);
+        grid.set(3, 3, CellType.WALL);
+
+        assertAll(
+                () -> assertEquals(CellType.PASS, maze.cells().get(2, 1)),
+                () -> assertEquals(CellType.PASS, maze.cells().get(3, 3)),
+                () -> assertEquals(CellType.PATH, grid.get(2, 1)),
+                () -> assertTrue(grid.isWall(3, 3)),
+                () -> assertEquals(CellType.PASS, grid.get(1, 2)));
+    }
+
+    @Test
+    void shouldCopyOnlyModifiedRows() {
+        CopyOnWriteGrid grid = createMaze().edit();
+
+        grid.set(1, 1, CellType.ENTER);
+        grid.set(3, 1, CellType.EXIT);
+        grid.set(1, 3, CellType.WALL);
+
+        assertEquals(2, grid.modifiedRows());
+    }
+
+    @Test
+    void shouldIsolateSnapshotFromFurtherEdits() {
+        CopyOnWriteGrid grid = createMaze().edit();
+        grid.set(1, 1, CellType.ENTER);
+
+        Maze edited = new Maze(grid);
+        grid.set(1, 1, CellType.WALL);
+        CopyOnWriteGrid nested = edited.edit();
+        nested.set(2, 1, CellType.PATH);
+
+        assertAll(
+                () -> assertEquals(CellType.ENTER, edited.cells().get(1, 1)),
+                () -> assertEquals(CellType.PASS, edited.cells().get(2, 1)),
+                () -> assertEquals(CellType.WALL, grid.get(1, 1)),
+                () -> assertEquals(CellType.ENTER, nested.get(1, 1)),
+                () -> assertThrows(
+                        IllegalStateException.class,
+                        () -> ((CopyOnWriteGrid) edited.cells()).set(1, 1, CellType.PASS)));
+    }
+
+    private static Maze createMaze() {
+        var grid = new PackedGrid(5, 5);
+        for (int y = 1; y < 4; y++) {
+            for (int x = 1; x < 4; x++) {
+                grid.set(x, y, CellType.PASS);
+            }
+        }
+
+        return new Maze(grid);
+    }
+}
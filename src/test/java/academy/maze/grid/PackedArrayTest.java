@@ -0,0 +1,80 @@
+package academy.maze.grid;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import academy.maze.dto.CellType;
+import java.util.stream.IntStream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+public class PackedArrayTest {
+    @ParameterizedTest
+    @EnumSource(GridStorage.class)
+    void shouldStoreValuesOfEveryWidthIndependently(GridStorage storage) {
+        for (int bits = 1; bits <= Long.SIZE; bits <<= 1) {
+            long mask = bits == Long.SIZE ? -1L : (1L << bits) - 1;
+            PackedArray array = storage.newArray(131, bits);
+
+            for (long i = 0; i < array.size(); i++) {
+                array.set(i, i * 0x9E3779B97F4A7C15L);
+            }
+            for (long i = 0; i < array.size(); i++) {
+                assertEquals(i * 0x9E3779B97F4A7C15L & mask, array.get(i), "bits = " + bits + ", index = " + i);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(GridStorage.class)
+    void shouldBeZeroFilledAndOverwritable(GridStorage storage) {
+        PackedArray array = storage.newArray(10, 2);
+
+        array.set(3, 3);
+        array.set(3, 1);
+
+        assertAll(
+                () -> assertEquals(0, array.get(2)),
+                () -> assertEquals(1, array.get(3)),
+                () -> assertEquals(0, array.get(4)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(GridStorage.class)
+    void shouldNotLoseConcurrentAtomicWritesToSharedWords(GridStorage storage) {
+        PackedArray array = storage.newArray(1 << 16, 1);
+
+        IntStream.range(0, (int) array.size()).parallel().forEach(i -> array.setAtomically(i, i % 3 == 0 ? 0 : 1));
+
+        for (long i = 0; i < array.size(); i++) {
+            assertEquals(i % 3 == 0 ? 0 : 1, array.get(i), "index = " + i);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(GridStorage.class)
+    void shouldRejectInvalidArguments(GridStorage storage) {
+        PackedArray array = storage.newArray(8, 4);
+
+        assertAll(
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> array.get(8)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> array.set(-1, 0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> storage.newArray(8, 3)),
+                () -> assertThrows(IllegalArgumentException.class, () -> storage.newArray(-1, 1)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(GridStorage.class)
+    void shouldBackMazeGrid(GridStorage storage) {
+        MutableMazeGrid grid = storage.newGrid(100, 3);
+
+        grid.set(99, 2, CellType.ENTER);
+
+        assertAll(
+                () -> assertEquals(storage, grid.storage()),
+                () -> assertEquals(300, grid.cellCount()),
+                () -> assertEquals(CellType.ENTER, grid.get(99, 2)),
+                () -> assertEquals(CellType.WALL, grid.get(98, 2)));
+    }
+}
@@ -0,0 +1,98 @@
+package academy.maze.grid;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import academy.maze.dto.CellType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class PackedGridTest {
+    @Test
+    void shouldBeFilledWithWallsAfterCreation() {
+        var grid = new PackedGrid(70, 3);
+
+        for (int y = 0; y < grid.height(); y++) {
+            for (int x = 0; x < grid.width(); x++) {
+                assertEquals(CellType.WALL, grid.get(x, y));
+            }
+        }
+    }
+
+    @Test
+    void shouldStoreEveryCellType() {
+        var grid = new PackedGrid(67, 5);
+        CellType[] types = CellType.values();
+
+        for (int y = 0; y < grid.height(); y++) {
+            for (int x = 0; x < grid.width(); x++) {
+                grid.set(x, y, types[(x + y) % types.length]);
+            }
+        }
+
+        for (int y = 0; y < grid.height(); y++) {
+            for (int x = 0; x < grid.width(); x++) {
+                assertEquals(types[(x + y) % types.length], grid.get(x, y));
+            }
+        }
+    }
+
+    @Test
+    void shouldOverwriteSpecialCellWithWallAndPass() {
+        var grid = new PackedGrid(3, 3);
+
+        grid.set(1, 1, CellType.EXIT);
+        grid.set(1, 1, CellType.WALL);
+        grid.set(2, 1, CellType.PATH);
+        grid.set(2, 1, CellType.PASS);
+
+        assertAll(
+                () -> assertTrue(grid.isWall(1, 1)),
+                () -> assertEquals(CellType.WALL, grid.get(1, 1)),
+                () -> assertEquals(CellType.PASS, grid.get(2, 1)));
+    }
+
+    @Test
+    void shouldRejectOutOfBoundsAccess() {
+        var grid = new PackedGrid(4, 4);
+
+        assertAll(
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> grid.get(4, 0)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> grid.get(0, -1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new PackedGrid(0, 4)));
+    }
+
+    @Test
+    void shouldKeepSnapshotUnchangedAfterWrites() {
+        var grid = new PackedGrid(5, 5);
+        grid.set(1, 1, CellType.PASS);
+
+        MazeGrid snapshot = grid.snapshot();
+        grid.set(1, 1, CellType.WALL);
+        grid.set(2, 2, CellType.EXIT);
+
+        assertAll(
+                () -> assertEquals(CellType.PASS, snapshot.get(1, 1)),
+                () -> assertEquals(CellType.WALL, snapshot.get(2, 2)),
+                () -> assertEquals(CellType.EXIT, grid.get(2, 2)),
+                () -> assertThrows(
+                        IllegalStateException.class, () -> ((PackedGrid) snapshot).set(1, 1, CellType.PASS)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000, 30_000})
+    void shouldUseAtLeastThirtyTimesLessMemoryThanReferenceArray(int size) {
+        long referenceArray = arrayBytes(size) + size * arrayBytes(size);
+        long packed = PackedGrid.estimateBytes(size, size);
+
+        assertTrue(referenceArray / packed >= 30, "CellType[][]: " + referenceArray + " B, packed: " + packed + " B");
+    }
+
+    /** Размер массива ссылок при сжатых указателях: заголовок 16 байт и по 4 байта на элемент */
+    private static long arrayBytes(int length) {
+        return 16 + 4L * length;
+    }
+}
@@ -0,0 +1,68 @@
+package academy.maze.grid;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Point;
+import academy.maze.solver.BFSSolver;
+import org.junit.jupiter.api.Test;
+
+public class TiledPackedArrayTest {
+    @Test
+    void shouldNotMaterializeTilesForZeroWrites() {
+        var array = new TiledPackedArray(1024L * 1024, 1, 1024, 64, 0);
+
+        for (long i = 0; i < array.size(); i += 7) {
+            array.set(i, 0);
+        }
+        array.set(5 * 1024 + 70, 1);
+
+        assertAll(
+                () -> assertEquals(1, array.materializedTiles()),
+                () -> assertEquals(1, array.get(5 * 1024 + 70)),
+                () -> assertEquals(0, array.get(1024L * 1024 - 1)));
+    }
+
+    @Test
+    void shouldEvictColdTilesAndLoadThemBack() {
+        var array = new TiledPackedArray(256L * 256, 8, 256, 16, 3);
+
+        for (long i = 0; i < array.size(); i++) {
+            array.set(i, i * 31 + 1);
+        }
+        for (long i = array.size() - 1; i >= 0; i--) {
+            assertEquals((i * 31 + 1) & 0xFF, array.get(i), "index = " + i);
+        }
+
+        assertAll(
+                () -> assertEquals(256, array.materializedTiles()),
+                () -> assertEquals(3, array.residentTiles()));
+    }
+
+    @Test
+    void shouldMaterializeOnlyTilesAroundWrittenCells() {
+        var array = (TiledPackedArray) GridStorage.TILED.newCellArray(4096, 4096, 1);
+
+        for (int x = 1; x < 300; x++) {
+            array.set(4096 + x, 1);
+        }
+
+        assertEquals(2, array.materializedTiles());
+    }
+
+    @Test
+    void shouldSolveSparseTiledMaze() {
+        var grid = new PackedGrid(4096, 4096, GridStorage.TILED);
+        for (int x = 1; x < 300; x++) {
+            grid.set(x, 1, CellType.PASS);
+        }
+
+        var path = new BFSSolver().solve(new Maze(grid), new Point(1, 1), new Point(299, 1));
+
+        assertAll(
+                () -> assertEquals(299, path.length()),
+                () -> assertEquals(new Point(299, 1), path.get(298)));
+    }
+}
@@ -1,12 +1,46 @@
 package academy.maze.solver;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import academy.maze.dto.CellType;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Path;
 import academy.maze.dto.Point;
+import academy.maze.grid.PackedGrid;
+import org.junit.jupiter.api.Test;
 
 public class BFSSolverTest extends MazeSolverTestBase {
     @Override
     protected Path solve(Maze maze, Point start, Point end) {
         return new BFSSolver().solve(maze, start, end);
     }
+
+    @Test
+    void shouldReuseWorkspaceAcrossMazesOfDifferentSize() {
+        Maze field = createOpenField(700, 700);
+        Maze simple = createSimpleTestMaze();
+        Point start = new Point(1, 1);
+        Point end = new Point(698, 698);
+
+        Path first = solve(field, start, end);
+        Path small = solve(simple, start, new Point(3, 3));
+        Path second = solve(field, start, end);
+
+        assertAll(
+                () -> assertEquals(1395, first.length()),
+                () -> assertEquals(5, small.length()),
+                () -> assertEquals(first, second));
+    }
+
+    private static Maze createOpenField(int width, int height) {
+        var grid = new PackedGrid(width, height);
+        for (int y = 1; y < height - 1; y++) {
+            for (int x = 1; x < width - 1; x++) {
+                grid.set(x, y, CellType.PASS);
+            }
+        }
+
+        return new Maze(grid);
+    }
 }
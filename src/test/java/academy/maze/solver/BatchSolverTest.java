@@ -0,0 +1,81 @@
+package academy.maze.solver;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import academy.converters.SolverConverter;
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.dto.Query;
+import academy.maze.generator.KruskalGenerator;
+import academy.maze.grid.GridStorage;
+import academy.maze.grid.PackedGrid;
+import academy.maze.solver.BatchSolver.Result;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class BatchSolverTest {
+    @ParameterizedTest
+    @ValueSource(strings = {"astar", "junction", "tree", "jps"})
+    void shouldSolveEveryQueryInParallel(String algorithm) throws Exception {
+        Maze maze = new KruskalGenerator().generate(61, 61, GridStorage.HEAP, new SplittableRandom(3));
+        var random = new SplittableRandom(12);
+        var queries = new ArrayList<Query>();
+        for (int id = 0; id < 500; id++) {
+            queries.add(new Query(
+                    id,
+                    new Point(random.nextInt(31) * 2 + 1, random.nextInt(31) * 2 + 1),
+                    new Point(random.nextInt(31) * 2 + 1, random.nextInt(31) * 2 + 1)));
+        }
+        Map<Integer, Path> paths = new ConcurrentHashMap<>();
+        var solver = new SolverConverter().convert(algorithm);
+
+        try (var pool = new ForkJoinPool(4)) {
+            new BatchSolver(solver, pool).solve(maze, queries, result -> paths.put(result.query().id(), result.path()));
+        }
+
+        var reference = new BFSSolver();
+        assertEquals(queries.size(), paths.size());
+        for (Query query : queries) {
+            assertEquals(reference.solve(maze, query.start(), query.end()), paths.get(query.id()), query.toString());
+        }
+    }
+
+    @Test
+    void shouldReturnEmptyPathsForUnreachablePoints() {
+        CellType[][] cells = {
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL},
+            {CellType.WALL, CellType.PASS, CellType.WALL, CellType.PASS, CellType.WALL},
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL}
+        };
+        var maze = new Maze(PackedGrid.of(cells));
+        var queries = List.of(
+                new Query(0, new Point(1, 1), new Point(3, 1)),
+                new Query(1, new Point(1, 1), new Point(1, 1)),
+                new Query(2, new Point(0, 0), new Point(1, 1)));
+        List<Result> results = new ArrayList<>();
+
+        new BatchSolver(new AStarSolver()).solve(maze, queries, result -> {
+            synchronized (results) {
+                results.add(result);
+            }
+        });
+        results.sort((a, b) -> Integer.compare(a.query().id(), b.query().id()));
+
+        assertAll(
+                () -> assertEquals(3, results.size()),
+                () -> assertTrue(results.get(0).path().isEmpty()),
+                () -> assertEquals(1, results.get(1).path().length()),
+                () -> assertTrue(results.get(2).path().isEmpty()));
+    }
+}
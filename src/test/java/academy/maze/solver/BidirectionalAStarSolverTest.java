@@ -0,0 +1,18 @@
+package academy.maze.solver;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import org.junit.jupiter.api.Test;
+
+public class BidirectionalAStarSolverTest extends MazeSolverTestBase {
+    @Override
+    protected Path solve(Maze maze, Point start, Point end) {
+        return new BidirectionalAStarSolver().solve(maze, start, end);
+    }
+
+    @Test
+    void shouldFindShortestPathsExpandingFrontiersInParallel() {
+        assertShortestPaths(createBraidedMaze(61, 3), new BidirectionalAStarSolver(true));
+    }
+}
@@ -0,0 +1,70 @@
+package academy.maze.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class BucketQueueTest {
+    @Test
+    void shouldPollInPriorityOrderAcrossGrownWindow() {
+        var queue = new BucketQueue();
+        queue.push(1, 10);
+        queue.push(2, 12);
+        queue.push(3, 11);
+        queue.push(4, 40);
+        queue.push(5, 13);
+
+        List<Integer> polled = new ArrayList<>();
+        polled.add(queue.poll());
+        queue.push(6, 11);
+        while (!queue.isEmpty()) {
+            polled.add(queue.poll());
+        }
+
+        assertEquals(List.of(1, 6, 3, 2, 5, 4), polled);
+    }
+
+    @Test
+    void shouldKeepMinimumWhenDrained() {
+        var queue = new BucketQueue();
+        queue.push(1, 17);
+        queue.poll();
+
+        queue.push(2, 19);
+        queue.push(3, 17);
+
+        assertEquals(3, queue.poll());
+        assertEquals(2, queue.poll());
+    }
+
+    @Test
+    void shouldBeReusableAfterClear() {
+        var queue = new BucketQueue();
+        queue.push(1, 100);
+        queue.push(2, 101);
+        queue.clear();
+
+        queue.push(3, 7);
+        queue.push(4, 5);
+
+        assertEquals(4, queue.poll());
+        assertEquals(3, queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void shouldNotGrowWhenLowerPriorityFitsWindow() {
+        var queue = new BucketQueue();
+        for (int round = 0; round < 100; round++) {
+            queue.clear();
+            queue.push(1, 10);
+            queue.push(2, 9);
+
+            assertEquals(2, queue.poll());
+            assertEquals(1, queue.poll());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package academy.maze.solver;
+
+import static academy.maze.dto.CellType.PASS;
+import static academy.maze.dto.CellType.WALL;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.grid.PackedGrid;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+public class DistanceFieldTest {
+    private static Maze randomMaze(int width, int height, long seed) {
+        var random = new SplittableRandom(seed);
+        var grid = new PackedGrid(width, height);
+        for (int y = 1; y < height - 1; y++) {
+            for (int x = 1; x < width - 1; x++) {
+                grid.set(x, y, random.nextInt(10) < 7 ? PASS : WALL);
+            }
+        }
+        grid.set(1, 1, PASS);
+
+        return new Maze(grid);
+    }
+
+    @Test
+    void shouldMatchBreadthFirstSearch() {
+        Maze maze = randomMaze(60, 40, 3);
+        var source = new Point(1, 1);
+        var solver = new BFSSolver();
+        DistanceField field = solver.flood(maze, source);
+
+        for (int y = 0; y < maze.height(); y++) {
+            for (int x = 0; x < maze.width(); x++) {
+                var end = new Point(x, y);
+                Path expected = solver.solve(maze, source, end);
+                Path actual = field.pathTo(end);
+
+                assertEquals(expected.length() - 1, field.distance(end), end.toString());
+                assertEquals(expected.length(), actual.length(), end.toString());
+                if (!actual.isEmpty()) {
+                    assertEquals(source, actual.start());
+                    assertEquals(end, actual.end());
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldRoundTripThroughBinaryFormat() throws IOException {
+        DistanceField field = new BFSSolver().flood(randomMaze(33, 17, 5), new Point(1, 1));
+        var out = new ByteArrayOutputStream();
+        field.write(out);
+
+        DistanceField read = DistanceField.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertAll(
+                () -> assertEquals(24 + 4 * 33 * 17, out.size()),
+                () -> assertEquals(field.width(), read.width()),
+                () -> assertEquals(field.height(), read.height()),
+                () -> assertEquals(field.source(), read.source()),
+                () -> assertArrayEquals(field.distances(), read.distances()));
+    }
+
+    @Test
+    void shouldRejectForeignFile() {
+        byte[] bytes = "not a distance field at all".getBytes();
+
+        assertThrows(IOException.class, () -> DistanceField.read(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void shouldMarkWallsAndUnreachableCells() {
+        CellType[][] cells = {
+            {WALL, WALL, WALL, WALL, WALL},
+            {WALL, PASS, PASS, WALL, WALL},
+            {WALL, WALL, WALL, PASS, WALL},
+            {WALL, WALL, WALL, WALL, WALL}
+        };
+        DistanceField field = new BFSSolver().flood(new Maze(PackedGrid.of(cells)), new Point(1, 1));
+
+        assertAll(
+                () -> assertEquals(0, field.distance(new Point(1, 1))),
+                () -> assertEquals(1, field.distance(new Point(2, 1))),
+                () -> assertEquals(DistanceField.UNREACHABLE, field.distance(new Point(3, 2))),
+                () -> assertEquals(DistanceField.UNREACHABLE, field.distance(new Point(0, 0))),
+                () -> assertEquals(DistanceField.UNREACHABLE, field.distance(new Point(-1, 7))),
+                () -> assertTrue(field.pathTo(new Point(3, 2)).isEmpty()));
+    }
+
+    @Test
+    void shouldRejectWallSource() {
+        Maze maze = randomMaze(10, 10, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> new BFSSolver().flood(maze, new Point(0, 0)));
+    }
+}
@@ -0,0 +1,35 @@
+package academy.maze.solver;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.generator.DFSGenerator;
+import academy.maze.grid.GridStorage;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+public class IDAStarSolverTest extends MazeSolverTestBase {
+    @Override
+    protected Path solve(Maze maze, Point start, Point end) {
+        return new IDAStarSolver().solve(maze, start, end);
+    }
+
+    @Test
+    void shouldFindShortestPathsWithSmallTranspositionTable() {
+        assertShortestPaths(createBraidedMaze(31, 5), new IDAStarSolver(256));
+    }
+
+    @Test
+    void shouldFindShortestPathsWithoutTranspositionTableInPerfectMaze() {
+        Maze maze = new DFSGenerator().generate(41, 41, GridStorage.HEAP, new SplittableRandom(8));
+
+        assertShortestPaths(maze, new IDAStarSolver(0));
+    }
+
+    @Test
+    void shouldRejectNegativeTableCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new IDAStarSolver(-1));
+    }
+}
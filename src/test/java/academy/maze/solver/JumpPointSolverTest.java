@@ -0,0 +1,67 @@
+package academy.maze.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.grid.PackedGrid;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+public class JumpPointSolverTest extends MazeSolverTestBase {
+    @Override
+    protected Path solve(Maze maze, Point start, Point end) {
+        return new JumpPointSolver().solve(maze, start, end);
+    }
+
+    @Test
+    void shouldFindShortestPathsWithJumpTable() {
+        Maze maze = createBraidedMaze(61, 5);
+
+        assertShortestPaths(maze, JumpPointSolver.precomputed(maze));
+    }
+
+    @Test
+    void shouldFindShortestPathsInOpenFieldWithPillars() {
+        Maze maze = createPillarField(81, 7);
+
+        assertShortestPaths(maze, new JumpPointSolver());
+        assertShortestPaths(maze, JumpPointSolver.precomputed(maze));
+    }
+
+    @Test
+    void shouldSolveOtherMazesWithoutJumpTable() {
+        var solver = JumpPointSolver.precomputed(createBraidedMaze(21, 1));
+        Maze maze = createBraidedMaze(31, 2);
+
+        assertShortestPaths(maze, solver);
+    }
+
+    @Test
+    void shouldStopAtEndInsideStraightRun() {
+        var cells = new PackedGrid(9, 3);
+        for (int x = 1; x < 8; x++) {
+            cells.set(x, 1, CellType.PASS);
+        }
+        var maze = new Maze(cells);
+
+        assertEquals(5, new JumpPointSolver().solve(maze, new Point(1, 1), new Point(5, 1)).length());
+        assertEquals(5, JumpPointSolver.precomputed(maze).solve(maze, new Point(1, 1), new Point(5, 1)).length());
+    }
+
+    /** Создает открытое поле, в котором часть ячеек с четными координатами заменена столбами. */
+    private static Maze createPillarField(int size, long seed) {
+        var random = new SplittableRandom(seed);
+        var cells = new PackedGrid(size, size);
+        for (int y = 1; y < size - 1; y++) {
+            for (int x = 1; x < size - 1; x++) {
+                boolean pillar = x % 2 == 0 && y % 2 == 0 && random.nextInt(3) > 0;
+                cells.set(x, y, pillar ? CellType.WALL : CellType.PASS);
+            }
+        }
+
+        return new Maze(cells);
+    }
+}
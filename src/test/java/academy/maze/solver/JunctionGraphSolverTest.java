@@ -0,0 +1,89 @@
+package academy.maze.solver;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.generator.KruskalGenerator;
+import academy.maze.grid.GridStorage;
+import academy.maze.grid.PackedGrid;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+public class JunctionGraphSolverTest extends MazeSolverTestBase {
+    @Override
+    protected Path solve(Maze maze, Point start, Point end) {
+        return new JunctionGraphSolver().solve(maze, start, end);
+    }
+
+    @Test
+    void shouldContractCorridorsOfPerfectMaze() {
+        Maze maze = new KruskalGenerator().generate(41, 41, GridStorage.HEAP, new SplittableRandom(3));
+
+        JunctionGraph graph = JunctionGraph.of(maze);
+
+        assertAll(
+                () -> assertEquals(graph.nodeCount() - 1, graph.edgeCount(), "Perfect maze contracts into a tree"),
+                () -> assertTrue(graph.nodeCount() < 41 * 41 / 2, "Corridor cells should not become nodes"));
+    }
+
+    @Test
+    void shouldSolveRepeatedQueriesOnPrebuiltGraph() {
+        Maze maze = createBraidedMaze(61, 9);
+
+        assertShortestPaths(maze, new JunctionGraphSolver(JunctionGraph.of(maze)));
+    }
+
+    @Test
+    void shouldFindPathsBetweenCorridorCells() {
+        Maze maze = createBraidedMaze(41, 4);
+        var solver = new JunctionGraphSolver();
+        var reference = new BFSSolver();
+        var random = new SplittableRandom(11);
+
+        for (int i = 0; i < 200; i++) {
+            var start = randomPassable(maze, random);
+            var end = randomPassable(maze, random);
+
+            Path path = solver.solve(maze, start, end);
+
+            assertAll(
+                    () -> assertEquals(reference.solve(maze, start, end).length(), path.length(), start + " -> " + end),
+                    () -> assertTrue(isPathValid(maze, path), "Path should consist of passable cells only"));
+        }
+    }
+
+    @Test
+    void shouldSolveCycleWithoutJunctions() {
+        var cells = new PackedGrid(7, 5);
+        for (int x = 1; x < 6; x++) {
+            cells.set(x, 1, CellType.PASS);
+            cells.set(x, 3, CellType.PASS);
+        }
+        cells.set(1, 2, CellType.PASS);
+        cells.set(5, 2, CellType.PASS);
+        var maze = new Maze(cells);
+
+        JunctionGraph graph = JunctionGraph.of(maze);
+        Path path = new JunctionGraphSolver(graph).solve(maze, new Point(3, 1), new Point(3, 3));
+
+        assertAll(
+                () -> assertEquals(1, graph.nodeCount()),
+                () -> assertEquals(1, graph.edgeCount()),
+                () -> assertEquals(7, path.length()),
+                () -> assertTrue(isPathValid(maze, path)));
+    }
+
+    private static Point randomPassable(Maze maze, SplittableRandom random) {
+        while (true) {
+            var point = new Point(random.nextInt(maze.width()), random.nextInt(maze.height()));
+            if (maze.cells().get(point.x(), point.y()) == CellType.PASS) {
+                return point;
+            }
+        }
+    }
+}
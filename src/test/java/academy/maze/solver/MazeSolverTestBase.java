@@ -10,7 +10,18 @@ import academy.maze.dto.CellType;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Path;
 import academy.maze.dto.Point;
+import academy.maze.generator.DFSGenerator;
+import academy.maze.generator.KruskalGenerator;
+import academy.maze.grid.GridStorage;
+import academy.maze.grid.PackedGrid;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 public abstract class MazeSolverTestBase {
 
@@ -25,9 +36,9 @@ public abstract class MazeSolverTestBase {
         Path path = solve(maze, start, end);
 
         assertAll(
-                () -> assertTrue(path.points().length > 0, "Path should not be empty"),
-                () -> assertEquals(start, path.points()[0], "Path should start at start point"),
-                () -> assertEquals(end, path.points()[path.points().length - 1], "Path should end at end point"),
+                () -> assertTrue(path.length() > 0, "Path should not be empty"),
+                () -> assertEquals(start, path.start(), "Path should start at start point"),
+                () -> assertEquals(end, path.end(), "Path should end at end point"),
                 () -> assertTrue(isPathValid(maze, path), "Path should consist of passable cells only"));
     }
 
@@ -39,7 +50,7 @@ public abstract class MazeSolverTestBase {
 
         Path path = solve(maze, start, end);
 
-        assertEquals(5, path.points().length, "Should find optimal path length");
+        assertEquals(5, path.length(), "Should find optimal path length");
     }
 
     @Test
@@ -50,7 +61,7 @@ public abstract class MazeSolverTestBase {
 
         Path path = solve(maze, start, end);
 
-        assertEquals(0, path.points().length, "Should return empty path when no solution exists");
+        assertEquals(0, path.length(), "Should return empty path when no solution exists");
     }
 
     @Test
@@ -61,8 +72,8 @@ public abstract class MazeSolverTestBase {
         Path path = solve(maze, point, point);
 
         assertAll(
-                () -> assertEquals(1, path.points().length, "Path should contain single point"),
-                () -> assertEquals(point, path.points()[0], "Path should contain the start/end point"));
+                () -> assertEquals(1, path.length(), "Path should contain single point"),
+                () -> assertEquals(point, path.start(), "Path should contain the start/end point"));
     }
 
     @Test
@@ -73,7 +84,7 @@ public abstract class MazeSolverTestBase {
         Point validEnd = new Point(1, 1);
 
         Path path = solve(maze, wallStart, validEnd);
-        assertEquals(0, path.points().length, "Should return empty path when start is wall");
+        assertEquals(0, path.length(), "Should return empty path when start is wall");
     }
 
     @Test
@@ -84,7 +95,7 @@ public abstract class MazeSolverTestBase {
         Point wallEnd = new Point(0, 0);
 
         Path path = solve(maze, validStart, wallEnd);
-        assertEquals(0, path.points().length, "Should return empty path when end is wall");
+        assertEquals(0, path.length(), "Should return empty path when end is wall");
     }
 
     @Test
@@ -100,9 +111,9 @@ public abstract class MazeSolverTestBase {
         Path path3 = solve(maze, outOfBounds1, outOfBounds2);
 
         assertAll(
-                () -> assertEquals(0, path1.points().length, "Should return empty path for out-of-bounds start"),
-                () -> assertEquals(0, path2.points().length, "Should return empty path for out-of-bounds end"),
-                () -> assertEquals(0, path3.points().length, "Should return empty path for both points out-of-bounds"));
+                () -> assertEquals(0, path1.length(), "Should return empty path for out-of-bounds start"),
+                () -> assertEquals(0, path2.length(), "Should return empty path for out-of-bounds end"),
+                () -> assertEquals(0, path3.length(), "Should return empty path for both points out-of-bounds"));
     }
 
     @Test
@@ -112,7 +123,73 @@ public abstract class MazeSolverTestBase {
         Point wall2 = new Point(0, 1);
 
         Path path = solve(maze, wall1, wall2);
-        assertEquals(0, path.points().length, "Should return empty path when both points are walls");
+        assertEquals(0, path.length(), "Should return empty path when both points are walls");
+    }
+
+    @Test
+    void shouldSolveSharedMazeConcurrently() throws Exception {
+        Maze maze = new DFSGenerator().generate(101, 101);
+        Point start = new Point(1, 1);
+        Point end = new Point(101, 101);
+        Path expected = solve(maze, start, end);
+
+        var results = new ArrayList<Future<Path>>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 64; i++) {
+                results.add(executor.submit(() -> solve(maze, start, end)));
+            }
+        }
+
+        assertTrue(expected.length() > 0, "Generated maze should be solvable");
+        for (Future<Path> result : results) {
+            assertEquals(expected.length(), result.get().length(), "Every thread should find path of the same length");
+        }
+    }
+
+    @Test
+    void shouldFindShortestPathsInMazeWithCycles() {
+        assertShortestPaths(createBraidedMaze(61, 3), this::solve);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = GridStorage.class, names = {"OFF_HEAP", "TILED"})
+    void shouldFindSamePathsOutsideHeap(GridStorage storage) {
+        Maze heap = new KruskalGenerator().generate(61, 61, GridStorage.HEAP, new SplittableRandom(5));
+        Maze stored = new KruskalGenerator().generate(61, 61, storage, new SplittableRandom(5));
+        var random = new SplittableRandom(23);
+
+        for (int i = 0; i < 20; i++) {
+            var start = new Point(random.nextInt(30) * 2 + 1, random.nextInt(30) * 2 + 1);
+            var end = new Point(random.nextInt(30) * 2 + 1, random.nextInt(30) * 2 + 1);
+
+            assertEquals(solve(heap, start, end), solve(stored, start, end), start + " -> " + end);
+        }
+    }
+
+    /**
+     * Проверяет, что решатель находит пути той же длины, что и поиск в ширину, между случайными парами узлов.
+     *
+     * @param maze лабиринт с нечетными размерами сетки
+     * @param solver проверяемый решатель
+     */
+    protected static void assertShortestPaths(Maze maze, Solver solver) {
+        var reference = new BFSSolver();
+        var random = new SplittableRandom(17);
+        int nodesX = maze.width() / 2;
+        int nodesY = maze.height() / 2;
+
+        for (int i = 0; i < 50; i++) {
+            var start = new Point(random.nextInt(nodesX) * 2 + 1, random.nextInt(nodesY) * 2 + 1);
+            var end = new Point(random.nextInt(nodesX) * 2 + 1, random.nextInt(nodesY) * 2 + 1);
+
+            Path path = solver.solve(maze, start, end);
+
+            assertAll(
+                    () -> assertEquals(reference.solve(maze, start, end).length(), path.length(), start + " -> " + end),
+                    () -> assertEquals(start, path.start()),
+                    () -> assertEquals(end, path.end()),
+                    () -> assertTrue(isPathValid(maze, path), "Path should consist of passable cells only"));
+        }
     }
 
     protected Maze createSimpleTestMaze() {
@@ -123,7 +200,7 @@ public abstract class MazeSolverTestBase {
             {WALL, PASS, PASS, PASS, WALL},
             {WALL, WALL, WALL, WALL, WALL}
         };
-        return new Maze(cells, 5, 5);
+        return new Maze(PackedGrid.of(cells));
     }
 
     protected Maze createMazeForOptimalPathTest() {
@@ -134,7 +211,7 @@ public abstract class MazeSolverTestBase {
             {WALL, PASS, PASS, PASS, PASS, PASS, WALL},
             {WALL, WALL, WALL, WALL, WALL, WALL, WALL}
         };
-        return new Maze(cells, 5, 7);
+        return new Maze(PackedGrid.of(cells));
     }
 
     protected Maze createImpossibleMaze() {
@@ -145,15 +222,30 @@ public abstract class MazeSolverTestBase {
             {WALL, WALL, WALL, WALL, WALL},
             {WALL, WALL, WALL, WALL, WALL}
         };
-        return new Maze(cells, 5, 5);
+        return new Maze(PackedGrid.of(cells));
     }
 
-    protected boolean isPathValid(Maze maze, Path path) {
-        for (Point point : path.points()) {
-            if (maze.cells()[point.y()][point.x()] != CellType.PASS) {
-                return false;
-            }
+    /**
+     * Создает лабиринт с циклами: идеальный лабиринт, в котором пробита часть внутренних стен.
+     *
+     * @param size ширина и высота лабиринта
+     * @param seed зерно генерации
+     */
+    protected static Maze createBraidedMaze(int size, long seed) {
+        var random = new SplittableRandom(seed);
+        var grid = new DFSGenerator().generate(size, size, GridStorage.HEAP, random).edit();
+        for (int i = 0; i < size * size / 20; i++) {
+            int x = random.nextInt(1, grid.width() - 1);
+            int y = random.nextInt(1, grid.height() - 1);
+            grid.set(x, y, PASS);
         }
-        return true;
+
+        return new Maze(grid);
+    }
+
+    protected static boolean isPathValid(Maze maze, Path path) {
+        var valid = new boolean[] {true};
+        path.forEachPoint((i, x, y) -> valid[0] &= maze.cells().get(x, y) == CellType.PASS);
+        return valid[0];
     }
 }
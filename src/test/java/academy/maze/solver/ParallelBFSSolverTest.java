@@ -0,0 +1,42 @@
+package academy.maze.solver;
+
+import static academy.maze.dto.CellType.PASS;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.grid.PackedGrid;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+public class ParallelBFSSolverTest extends MazeSolverTestBase {
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterAll
+    static void shutdownPool() {
+        POOL.shutdown();
+    }
+
+    @Override
+    protected Path solve(Maze maze, Point start, Point end) {
+        return new ParallelBFSSolver().solve(maze, start, end);
+    }
+
+    @Test
+    void shouldFindShortestPathsExpandingLevelsInParallel() {
+        assertShortestPaths(createBraidedMaze(61, 3), new ParallelBFSSolver(2, POOL));
+    }
+
+    @Test
+    void shouldFindShortestPathsSwitchingToBottomUpInOpenField() {
+        var grid = new PackedGrid(63, 41);
+        for (int y = 1; y < grid.height() - 1; y++) {
+            for (int x = 1; x < grid.width() - 1; x++) {
+                grid.set(x, y, PASS);
+            }
+        }
+
+        assertShortestPaths(new Maze(grid), new ParallelBFSSolver(2, POOL));
+    }
+}
@@ -0,0 +1,80 @@
+package academy.maze.solver;
+
+import static academy.maze.dto.CellType.PASS;
+import static academy.maze.dto.CellType.WALL;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.generator.DFSGenerator;
+import academy.maze.generator.Generator;
+import academy.maze.generator.KruskalGenerator;
+import academy.maze.generator.PrimGenerator;
+import academy.maze.grid.GridStorage;
+import academy.maze.grid.PackedGrid;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class TreeDistanceOracleTest {
+    static Stream<Generator> generators() {
+        return Stream.of(new DFSGenerator(), new PrimGenerator(), new KruskalGenerator());
+    }
+
+    @ParameterizedTest
+    @MethodSource("generators")
+    void shouldMatchBreadthFirstSearch(Generator generator) {
+        Maze maze = generator.generate(81, 61, GridStorage.HEAP, new SplittableRandom(4));
+        var oracle = TreeDistanceOracle.of(maze);
+        var reference = new BFSSolver();
+        var random = new SplittableRandom(9);
+
+        for (int i = 0; i < 200; i++) {
+            var start = new Point(random.nextInt(41) * 2 + 1, random.nextInt(31) * 2 + 1);
+            var end = new Point(random.nextInt(41) * 2 + 1, random.nextInt(31) * 2 + 1);
+            Path expected = reference.solve(maze, start, end);
+
+            assertAll(
+                    () -> assertEquals(expected.length() - 1, oracle.distance(start, end), start + " -> " + end),
+                    () -> assertEquals(expected, oracle.path(start, end), start + " -> " + end));
+        }
+    }
+
+    @Test
+    void shouldRejectMazeWithCycles() {
+        CellType[][] cells = {
+            {WALL, WALL, WALL, WALL},
+            {WALL, PASS, PASS, WALL},
+            {WALL, PASS, PASS, WALL},
+            {WALL, WALL, WALL, WALL}
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> TreeDistanceOracle.of(new Maze(PackedGrid.of(cells))));
+    }
+
+    @Test
+    void shouldSeparateComponents() {
+        CellType[][] cells = {
+            {WALL, WALL, WALL, WALL, WALL, WALL},
+            {WALL, PASS, PASS, WALL, PASS, WALL},
+            {WALL, WALL, PASS, WALL, PASS, WALL},
+            {WALL, WALL, WALL, WALL, WALL, WALL}
+        };
+        var oracle = TreeDistanceOracle.of(new Maze(PackedGrid.of(cells)));
+
+        assertAll(
+                () -> assertEquals(2, oracle.distance(new Point(1, 1), new Point(2, 2))),
+                () -> assertEquals(1, oracle.distance(new Point(4, 2), new Point(4, 1))),
+                () -> assertEquals(-1, oracle.distance(new Point(1, 1), new Point(4, 1))),
+                () -> assertEquals(-1, oracle.distance(new Point(0, 0), new Point(4, 1))),
+                () -> assertTrue(oracle.path(new Point(2, 2), new Point(4, 2)).isEmpty()),
+                () -> assertEquals(0, oracle.distance(new Point(2, 1), new Point(2, 1))));
+    }
+}
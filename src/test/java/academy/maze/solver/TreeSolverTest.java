@@ -0,0 +1,12 @@
+package academy.maze.solver;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+
+public class TreeSolverTest extends MazeSolverTestBase {
+    @Override
+    protected Path solve(Maze maze, Point start, Point end) {
+        return new TreeSolver().solve(maze, start, end);
+    }
+}